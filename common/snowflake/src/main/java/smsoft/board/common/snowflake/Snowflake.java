@@ -95,6 +95,27 @@ public class Snowflake {
                 | sequence;
     }
 
+    /**
+     * ID에 포함된 생성 시각을 반환합니다.
+     *
+     * @param id Snowflake ID
+     * @return 생성 시각 (epoch milliseconds)
+     */
+    public static long timestampOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + CUSTOM_EPOCH;
+    }
+
+    /**
+     * 주어진 시각 이후에 생성될 수 있는 가장 작은 ID를 반환합니다.
+     * 이 값보다 작은 ID는 모두 주어진 시각 이전에 생성되었으므로 시간 기준 ID 범위 조회의 경계로 사용할 수 있습니다.
+     *
+     * @param timestamp 기준 시각 (epoch milliseconds)
+     * @return 기준 시각의 최소 ID
+     */
+    public static long minIdAt(long timestamp) {
+        return Math.max(timestamp - CUSTOM_EPOCH, 0L) << TIMESTAMP_SHIFT;
+    }
+
     private long waitNextMillis(long currentTimestamp) {
         while (currentTimestamp <= lastTimeMillis) {
             // Busy-wait 동안 CPU 사용 최적화
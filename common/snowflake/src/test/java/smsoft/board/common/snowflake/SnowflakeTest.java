@@ -61,6 +61,22 @@ class SnowflakeTest {
         assertTrue(id > 0);
     }
 
+    @Test
+    @DisplayName("시각 경계 테스트: ID에서 생성 시각을 복원하고 시각으로 ID 경계를 계산할 수 있어야 한다")
+    void testTimeBounds() {
+        Snowflake snowflake = new Snowflake(1);
+        long before = System.currentTimeMillis();
+        long id = snowflake.nextId();
+        long after = System.currentTimeMillis();
+
+        long timestamp = Snowflake.timestampOf(id);
+        assertTrue(timestamp >= before && timestamp <= after);
+
+        assertTrue(Snowflake.minIdAt(timestamp) <= id);
+        assertTrue(Snowflake.minIdAt(timestamp + 1) > id);
+        assertEquals(timestamp, Snowflake.timestampOf(Snowflake.minIdAt(timestamp)));
+    }
+
     @Test
     @DisplayName("단일 스레드 성능 테스트: 100만 개 ID 생성 속도 측정")
     void testSingleThreadPerformance() {
@@ -0,0 +1,109 @@
+#!/usr/bin/env bash
+#
+# 서비스 모듈별 기동 시간(프로세스 시작 ~ 첫 HTTP 응답) 측정
+#
+# 모드:
+#   default   : bootJar 그대로 실행 (중첩 jar)
+#   extracted : 추출된 jar만 사용 (AOT/CDS 없음, default 대비 추출 효과만 분리)
+#   aot       : 추출된 jar + Spring AOT (-Dspring.aot.enabled=true)
+#   aot-cds   : 추출된 jar + Spring AOT + AppCDS 아카이브
+#
+# 사용법: ./scripts/startup-benchmark.sh [반복 횟수] [모듈...]
+#   예) ./scripts/startup-benchmark.sh 5 article comment
+#
+# article 서비스는 학습 실행과 측정 모두 MySQL이 떠 있어야 합니다 (README 참고).
+
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+RUNS="${1:-5}"
+shift || true
+
+declare -A PORTS=(
+    [article]=8000
+    [comment]=8001
+    [like]=8002
+    [view]=8003
+    [hot-article]=8004
+    [article-read]=8005
+)
+if [ "$#" -gt 0 ]; then
+    MODULES=("$@")
+else
+    MODULES=(article article-read comment hot-article like view)
+fi
+TIMEOUT_SECONDS=60
+
+# 첫 HTTP 응답(상태 코드 무관)까지 걸린 시간(ms) 출력
+measure() {
+    local port="$1"
+    local dir="$2"
+    shift 2
+
+    local start
+    start=$(date +%s%N)
+    (cd "$dir" && exec "$JAVA_BIN" "$@" --server.port="$port") > /dev/null 2>&1 &
+    local pid=$!
+
+    local deadline=$((SECONDS + TIMEOUT_SECONDS))
+    until [ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:${port}/" || true)" != "000" ]; do
+        if [ "$SECONDS" -ge "$deadline" ] || ! kill -0 "$pid" 2> /dev/null; then
+            kill "$pid" 2> /dev/null || true
+            wait "$pid" 2> /dev/null || true
+            echo "-1"
+            return
+        fi
+        sleep 0.01
+    done
+    local end
+    end=$(date +%s%N)
+
+    kill "$pid" 2> /dev/null || true
+    wait "$pid" 2> /dev/null || true
+    echo $(((end - start) / 1000000))
+}
+
+report() {
+    local module="$1"
+    local mode="$2"
+    shift 2
+
+    local total=0
+    local min=-1
+    local max=0
+    local count=0
+    for ((i = 0; i < RUNS; i++)); do
+        local elapsed
+        elapsed=$(measure "$@")
+        if [ "$elapsed" -lt 0 ]; then
+            printf "%-14s %-10s failed to start within %ss\n" "$module" "$mode" "$TIMEOUT_SECONDS"
+            return
+        fi
+        total=$((total + elapsed))
+        count=$((count + 1))
+        if [ "$min" -lt 0 ] || [ "$elapsed" -lt "$min" ]; then min=$elapsed; fi
+        if [ "$elapsed" -gt "$max" ]; then max=$elapsed; fi
+    done
+    printf "%-14s %-10s avg=%6dms min=%6dms max=%6dms\n" "$module" "$mode" $((total / count)) "$min" "$max"
+}
+
+cd "$ROOT_DIR"
+# CDS 아카이브를 만든 것과 같은 JVM(Gradle 툴체인)으로 측정
+JAVA_BIN="$(./gradlew -q ":service:${MODULES[0]}:javaLauncherPath")"
+echo "java: $JAVA_BIN"
+for module in "${MODULES[@]}"; do
+    ./gradlew -q ":service:${module}:cdsArchive"
+done
+
+printf "%-14s %-10s %s\n" "module" "mode" "time-to-first-request (${RUNS} runs)"
+for module in "${MODULES[@]}"; do
+    port="${PORTS[$module]}"
+    build_dir="$ROOT_DIR/service/${module}/build"
+    boot_jar=$(ls "$build_dir"/libs/*.jar | grep -v -- '-plain.jar' | head -n 1)
+    jar_name=$(basename "$boot_jar")
+
+    report "$module" default "$port" "$build_dir/libs" -jar "$jar_name"
+    report "$module" extracted "$port" "$build_dir/cds" -jar "$jar_name"
+    report "$module" aot "$port" "$build_dir/cds" -Dspring.aot.enabled=true -jar "$jar_name"
+    report "$module" aot-cds "$port" "$build_dir/cds" -Dspring.aot.enabled=true -XX:SharedArchiveFile=application.jsa -jar "$jar_name"
+done
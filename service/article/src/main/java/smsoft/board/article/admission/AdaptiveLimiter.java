@@ -0,0 +1,70 @@
+package smsoft.board.article.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AIMD(Additive Increase, Multiplicative Decrease) 기반 동시성 제한기.
+ * <p>
+ * 응답 시간이 기준 이하이면 한도를 조금씩(한도 1회 순환당 약 +1) 늘리고,
+ * 기준을 넘으면 한도를 비율로 줄입니다. 한도에 도달하면 대기 없이 즉시 거절합니다.
+ * 한 번 지연된 구간에 함께 처리 중이던 요청들이 연달아 느리게 끝나더라도 한 번만 줄이도록,
+ * 마지막으로 줄인 이후에 시작된 요청의 지연만 감소 근거로 사용합니다 (응답 시간 구간당 최대 1회).
+ * </p>
+ */
+public class AdaptiveLimiter {
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private long lastBackoffNanos;
+
+    public AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+        // 아직 줄인 적이 없으므로 어떤 요청이든 감소 근거가 되도록 충분히 과거로 설정
+        this.lastBackoffNanos = System.nanoTime() - Long.MAX_VALUE / 2;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        long now = System.nanoTime();
+        synchronized (this) {
+            if (latencyNanos <= latencyThresholdNanos) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            } else if (now - latencyNanos - lastBackoffNanos > 0) {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                lastBackoffNanos = now;
+            }
+        }
+    }
+
+    // 처리 시간이 게시판 부하가 아닌 작업 크기에 비례하는 요청(export 등)은 한도 조정 근거로 사용하지 않고 반환만 함
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
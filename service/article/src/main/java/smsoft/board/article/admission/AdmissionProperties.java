@@ -0,0 +1,50 @@
+package smsoft.board.article.admission;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties("article.admission")
+public class AdmissionProperties {
+    private boolean enabled = true;
+    // 이 페이지보다 깊은 readAll 요청은 DEEP_PAGE 한도 적용
+    private Long deepPageThreshold = 100L;
+    // 게시판 x 엔드포인트 구분별 제한기 최대 개수 (초과 시 가장 오래 사용되지 않은 제한기 제거)
+    private int maxLimiters = 10000;
+    private Limit read = new Limit(20, 2, 50, Duration.ofMillis(200));
+    private Limit deepPage = new Limit(4, 1, 10, Duration.ofSeconds(1));
+    private Limit write = new Limit(10, 2, 20, Duration.ofMillis(300));
+    private Limit bulkWrite = new Limit(2, 1, 4, Duration.ofSeconds(5));
+
+    public Limit get(EndpointClass endpointClass) {
+        return switch (endpointClass) {
+            case READ -> read;
+            case DEEP_PAGE -> deepPage;
+            case WRITE -> write;
+            case BULK_WRITE -> bulkWrite;
+        };
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        private Duration latencyThreshold;
+
+        public Limit() {
+        }
+
+        public Limit(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.latencyThreshold = latencyThreshold;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package smsoft.board.article.admission;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class AdmissionRejectedException extends RuntimeException {
+    public AdmissionRejectedException(Long boardId, EndpointClass endpointClass) {
+        super("동시 요청 한도를 초과했습니다. boardId=%s, endpointClass=%s".formatted(boardId, endpointClass));
+    }
+}
@@ -0,0 +1,158 @@
+package smsoft.board.article.admission;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 게시판 x 엔드포인트 구분별 동시성 제한(bulkhead).
+ * <p>
+ * 특정 게시판에 요청이 몰려도 해당 게시판의 한도 안에서만 JDBC 커넥션을 사용하도록 하여
+ * 다른 게시판 요청이 커넥션 풀 고갈로 함께 지연되지 않도록 합니다. 한도 초과 요청은 대기열 없이 즉시 429로 거절합니다.
+ * 게시판 ID는 클라이언트가 보내는 값이므로 제한기는 최대 개수까지만 LRU로 유지하고,
+ * 메트릭도 게시판별이 아닌 엔드포인트 구분별 집계로만 노출하여 태그 카디널리티를 고정합니다.
+ * </p>
+ */
+@EnableConfigurationProperties(AdmissionProperties.class)
+@Component
+public class BoardAdmissionController {
+    private final AdmissionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<LimiterKey, AdaptiveLimiter> limiters;
+
+    public BoardAdmissionController(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.limiters = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<LimiterKey, AdaptiveLimiter> eldest) {
+                // 제거된 제한기를 사용 중인 요청은 기존 제한기에 반환되고, 다음 요청부터 새 제한기를 사용
+                return size() > properties.getMaxLimiters();
+            }
+        };
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            registerGauges(endpointClass);
+        }
+    }
+
+    public <T> T execute(Long boardId, EndpointClass endpointClass, Supplier<T> supplier) {
+        if (!properties.isEnabled()) {
+            return supplier.get();
+        }
+
+        AdaptiveLimiter limiter = tryAcquire(boardId, endpointClass);
+        long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    public void execute(Long boardId, EndpointClass endpointClass, Runnable runnable) {
+        execute(boardId, endpointClass, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    // 요청 스레드를 벗어나 이어지는 작업(StreamingResponseBody 등)용 허가 획득 (작업이 끝나면 반드시 release, 처리 시간은 한도 조정에 미반영)
+    public Permit acquire(Long boardId, EndpointClass endpointClass) {
+        if (!properties.isEnabled()) {
+            return new Permit(null);
+        }
+        return new Permit(tryAcquire(boardId, endpointClass));
+    }
+
+    public EndpointClass classifyPage(Long page) {
+        return page > properties.getDeepPageThreshold() ? EndpointClass.DEEP_PAGE : EndpointClass.READ;
+    }
+
+    public int size() {
+        synchronized (limiters) {
+            return limiters.size();
+        }
+    }
+
+    private AdaptiveLimiter tryAcquire(Long boardId, EndpointClass endpointClass) {
+        LimiterKey key = new LimiterKey(boardId, endpointClass);
+        AdaptiveLimiter limiter;
+        synchronized (limiters) {
+            limiter = limiters.computeIfAbsent(key, this::createLimiter);
+        }
+        if (!limiter.tryAcquire()) {
+            meterRegistry.counter("article.admission.rejected", tags(endpointClass)).increment();
+            throw new AdmissionRejectedException(boardId, endpointClass);
+        }
+        return limiter;
+    }
+
+    private AdaptiveLimiter createLimiter(LimiterKey key) {
+        AdmissionProperties.Limit limit = properties.get(key.endpointClass());
+        return new AdaptiveLimiter(
+                limit.getInitialLimit(),
+                limit.getMinLimit(),
+                limit.getMaxLimit(),
+                limit.getLatencyThreshold().toNanos()
+        );
+    }
+
+    private void registerGauges(EndpointClass endpointClass) {
+        Tags tags = tags(endpointClass);
+        // 구분 내 전체 처리 중 요청 수 / 가장 많이 줄어든 게시판의 한도 / 유지 중인 제한기 수
+        Gauge.builder("article.admission.in-flight", this, c -> c.aggregate(endpointClass, AdaptiveLimiter::getInFlight, true))
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("article.admission.limit.min", this, c -> c.aggregate(endpointClass, AdaptiveLimiter::getLimit, false))
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("article.admission.limiters", this, c -> c.aggregate(endpointClass, l -> 1, true))
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    private double aggregate(EndpointClass endpointClass, ToDoubleFunction<AdaptiveLimiter> value, boolean sum) {
+        double result = sum ? 0 : Double.NaN;
+        synchronized (limiters) {
+            for (Map.Entry<LimiterKey, AdaptiveLimiter> entry : limiters.entrySet()) {
+                if (entry.getKey().endpointClass() != endpointClass) {
+                    continue;
+                }
+                double current = value.applyAsDouble(entry.getValue());
+                result = sum ? result + current : (Double.isNaN(result) ? current : Math.min(result, current));
+            }
+        }
+        return result;
+    }
+
+    private Tags tags(EndpointClass endpointClass) {
+        return Tags.of("endpoint", endpointClass.name());
+    }
+
+    private record LimiterKey(Long boardId, EndpointClass endpointClass) {
+    }
+
+    public static class Permit {
+        private final AdaptiveLimiter limiter;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(AdaptiveLimiter limiter) {
+            this.limiter = limiter;
+        }
+
+        // 여러 번 호출되어도 한 번만 반환
+        public void release() {
+            if (limiter != null && released.compareAndSet(false, true)) {
+                limiter.release();
+            }
+        }
+    }
+}
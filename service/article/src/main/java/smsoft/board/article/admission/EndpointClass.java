@@ -0,0 +1,10 @@
+package smsoft.board.article.admission;
+
+// 동시성 제한 구분 (같은 게시판이라도 엔드포인트 성격별로 별도 한도 적용)
+public enum EndpointClass {
+    READ,
+    DEEP_PAGE,
+    WRITE,
+    // 여러 게시판에 걸친 일괄 작업 (게시판 구분 없이 하나의 한도)
+    BULK_WRITE
+}
@@ -0,0 +1,84 @@
+package smsoft.board.article.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 프라이머리/레플리카 라우팅 설정.
+ * <p>
+ * article.datasource.replica.url 이 지정된 경우에만 활성화되며, 지정되지 않으면 기본 단일 데이터소스를 사용합니다.
+ * 레플리카 계정 정보가 없으면 프라이머리(spring.datasource) 계정 정보를 그대로 사용합니다.
+ * 커넥션 풀 설정은 기본 데이터소스와 같이 프라이머리는 spring.datasource.hikari, 레플리카는
+ * article.datasource.replica.hikari 에서 바인딩합니다 (레플리카 풀은 프라이머리 설정을 상속하지 않음).
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "article.datasource.replica", name = "url")
+public class DataSourceConfig {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("article-primary-pool");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("article.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${article.datasource.replica.url}") String url,
+            @Value("${article.datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${article.datasource.replica.password:${spring.datasource.password}}") String password
+    ) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.getDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("article-replica-pool");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Primary
+    @Bean
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource
+    ) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.<Object, Object>of(
+                ReplicationRoutingDataSource.PRIMARY, primaryDataSource,
+                ReplicationRoutingDataSource.REPLICA, replicaDataSource
+        ));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            @Value("${article.datasource.read-your-writes-window:3s}") Duration window
+    ) {
+        return new ReadYourWritesFilter(window);
+    }
+}
@@ -0,0 +1,22 @@
+package smsoft.board.article.config;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 현재 요청을 프라이머리로 고정할지 여부 (쓰기 직후 read-your-writes 보장용)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PrimaryPinContext {
+    private static final ThreadLocal<Boolean> PINNED = ThreadLocal.withInitial(() -> false);
+
+    public static void pin() {
+        PINNED.set(true);
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get();
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+}
@@ -0,0 +1,22 @@
+package smsoft.board.article.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 레플리카로, 그 외(쓰기, 트랜잭션 없음, 프라이머리 고정 요청)는 프라이머리로 라우팅합니다.
+ * <p>
+ * 트랜잭션 시작 시점이 아닌 첫 쿼리 시점에 커넥션을 획득해야 readOnly 여부가 반영되므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 사용해야 합니다.
+ * </p>
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return readOnly && !PrimaryPinContext.isPinned() ? REPLICA : PRIMARY;
+    }
+}
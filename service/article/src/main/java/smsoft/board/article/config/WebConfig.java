@@ -0,0 +1,37 @@
+package smsoft.board.article.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+    // 비동기 응답 타임아웃 (이 서비스의 비동기 응답은 게시판 전체 NDJSON export 뿐이며, 0 이하이면 제한 없음)
+    @Value("${article.export.timeout:0}")
+    private Duration exportTimeout;
+
+    // 서비스 간 호출용 CBOR 바이너리 응답 (Accept: application/cbor 요청 시 사용, 날짜는 문자열 대신 숫자 배열로 인코딩)
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper objectMapper = builder
+                .factory(new CBORFactory())
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        return new MappingJackson2CborHttpMessageConverter(objectMapper);
+    }
+
+    // 서블릿 컨테이너 기본값(Tomcat 30초)으로는 대형 게시판 export가 중간에 끊기므로 명시적으로 지정
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(exportTimeout.isPositive() ? exportTimeout.toMillis() : -1L);
+    }
+}
@@ -3,50 +3,91 @@ package smsoft.board.article.controller;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import smsoft.board.article.admission.BoardAdmissionController;
+import smsoft.board.article.admission.EndpointClass;
+import smsoft.board.article.service.ArticleBoardIdResolver;
 import smsoft.board.article.service.ArticleService;
+import smsoft.board.article.service.request.ArticleBulkDeleteRequest;
 import smsoft.board.article.service.request.ArticleCreateRequest;
 import smsoft.board.article.service.request.ArticleUpdateRequest;
+import smsoft.board.article.service.response.ArticleBulkDeleteResponse;
 import smsoft.board.article.service.response.ArticlePageResponse;
 import smsoft.board.article.service.response.ArticleResponse;
 
 import java.util.List;
+import java.util.Map;
 
 @Validated
 @RequiredArgsConstructor
 @RestController
 public class ArticleController {
     private final ArticleService articleService;
+    private final ArticleBoardIdResolver articleBoardIdResolver;
+    private final BoardAdmissionController boardAdmissionController;
 
     @GetMapping("/v1/articles/{articleId}")
     public ArticleResponse read(@PathVariable("articleId") Long articleId) {
-        return articleService.read(articleId);
+        // ID만 받는 요청도 게시글의 게시판 한도를 적용 (존재하지 않는 게시글은 게시판 구분 없는 한도)
+        return boardAdmissionController.execute(
+                resolveBoardId(articleId),
+                EndpointClass.READ,
+                () -> articleService.read(articleId)
+        );
     }
 
     @GetMapping("/v1/articles")
     public ArticlePageResponse readAll(
             @RequestParam("boardId") Long boardId,
-            @RequestParam("page") Long page,
-            @RequestParam("pageSize") Long pageSize
+            @RequestParam("page") @Min(1) Long page,
+            @RequestParam("pageSize") @Min(1) @Max(50) Long pageSize
     ) {
-        // 게시글 목록 조회 (페이지네이션)
-        return articleService.readAll(boardId, page, pageSize);
+        // 게시글 목록 조회 (페이지네이션, 깊은 페이지는 별도 한도 적용)
+        return boardAdmissionController.execute(
+                boardId,
+                boardAdmissionController.classifyPage(page),
+                () -> articleService.readAll(boardId, page, pageSize)
+        );
+    }
+
+    @GetMapping("/v1/articles/page-cache/hit-ratios")
+    public Map<String, Double> readAllCacheHitRatios() {
+        // 페이지 깊이 구간별 목록 캐시 적중률
+        return articleService.readAllCacheHitRatios();
     }
 
     @PostMapping("/v1/articles")
     public ArticleResponse create(@RequestBody ArticleCreateRequest request){
-        return articleService.create(request);
+        return boardAdmissionController.execute(request.getBoardId(), EndpointClass.WRITE, () -> articleService.create(request));
     }
 
     @PutMapping("/v1/articles/{articleId}")
     public ArticleResponse update(@PathVariable("articleId") Long articleId, @RequestBody ArticleUpdateRequest request){
-        return articleService.update(articleId, request);
+        return boardAdmissionController.execute(
+                resolveBoardId(articleId),
+                EndpointClass.WRITE,
+                () -> articleService.update(articleId, request)
+        );
     }
 
     @DeleteMapping("/v1/articles/{articleId}")
     public void delete(@PathVariable("articleId") Long articleId){
-        articleService.delete(articleId);
+        boardAdmissionController.execute(
+                resolveBoardId(articleId),
+                EndpointClass.WRITE,
+                () -> articleService.delete(articleId)
+        );
+    }
+
+    @PostMapping("/v1/articles/bulk-delete")
+    public ArticleBulkDeleteResponse bulkDelete(@RequestBody ArticleBulkDeleteRequest request) {
+        // 게시글 ID 목록 또는 작성자 기준 일괄 삭제 (논리 삭제 후 백그라운드 물리 삭제)
+        return boardAdmissionController.execute(null, EndpointClass.BULK_WRITE, () -> articleService.bulkDelete(request));
     }
 
     @GetMapping("/v1/articles/infinite-scroll")
@@ -55,7 +96,55 @@ public class ArticleController {
             @RequestParam("pageSize") @Min(1) @Max(50) Long pageSize,
             @RequestParam(value = "lastArticleId", required = false) Long lastArticleId)
     {
-        return articleService.readAllInfiniteScroll(boardId, pageSize, lastArticleId);
+        return boardAdmissionController.execute(
+                boardId,
+                EndpointClass.READ,
+                () -> articleService.readAllInfiniteScroll(boardId, pageSize, lastArticleId)
+        );
     }
 
+    @GetMapping("/v1/boards/{boardId}/articles/search")
+    public List<ArticleResponse> search(
+            @PathVariable("boardId") Long boardId,
+            @RequestParam("query") String query,
+            @RequestParam("pageSize") @Min(1) @Max(50) Long pageSize,
+            @RequestParam(value = "lastArticleId", required = false) Long lastArticleId
+    ) {
+        // 제목/본문 검색 (모든 검색어를 포함하는 게시글, 최신순)
+        return boardAdmissionController.execute(
+                boardId,
+                EndpointClass.READ,
+                () -> articleService.search(boardId, query, pageSize, lastArticleId)
+        );
+    }
+
+    @GetMapping(value = "/v1/boards/{boardId}/articles/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable("boardId") Long boardId) {
+        // 게시판 전체 게시글 NDJSON 스트리밍 (백업/재색인용)
+        // 전체 스캔이므로 깊은 페이지 한도를 스트리밍이 끝날 때까지 점유 (한도 초과는 스트리밍 시작 전에 429)
+        BoardAdmissionController.Permit permit = boardAdmissionController.acquire(boardId, EndpointClass.DEEP_PAGE);
+        StreamingResponseBody body = outputStream -> {
+            try {
+                articleService.export(boardId, outputStream);
+            } finally {
+                permit.release();
+            }
+        };
+        return ResponseEntity.ok().body(body);
+    }
+
+    private Long resolveBoardId(Long articleId) {
+        // 캐시에 없는 게시글의 게시판 조회 쿼리는 게시판 구분 없는 공용 한도 안에서 수행
+        Long boardId = articleBoardIdResolver.findCached(articleId);
+        if (boardId != null) {
+            return boardId;
+        }
+        return boardAdmissionController.execute(null, EndpointClass.READ, () -> articleBoardIdResolver.resolve(articleId));
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public void handleOptimisticLockingFailure() {
+        // 동시 수정 충돌 시 409 응답 (클라이언트는 재조회 후 다시 시도)
+    }
 }
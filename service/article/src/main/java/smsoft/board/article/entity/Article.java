@@ -1,8 +1,10 @@
 package smsoft.board.article.entity;
 
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,12 +22,18 @@ public class Article {
     @Id
     private Long articleId;
     private String title;
+    @Convert(converter = ArticleContentConverter.class)
     private String content;
     // shard key
     private Long boardId;
     private Long writerId;
     private LocalDateTime createdAt;
     private LocalDateTime modifiedAt;
+    // 낙관적 락 버전 (동시 수정 충돌 감지)
+    @Version
+    private Long version;
+    // 논리 삭제 여부 (물리 삭제는 백그라운드에서 청크 단위로 수행)
+    private boolean deleted;
 
     public static Article create(Long articleId, String title, String content, Long boardId, Long writerId) {
         Article article = new Article();
@@ -40,9 +48,19 @@ public class Article {
         return article;
     }
 
+    // null인 필드는 기존 값 유지 (부분 수정)
     public void update(String title, String content) {
-        this.title = title;
-        this.content = content;
+        if (title != null) {
+            this.title = title;
+        }
+        if (content != null) {
+            this.content = content;
+        }
+        modifiedAt = LocalDateTime.now();
+    }
+
+    public void delete() {
+        this.deleted = true;
         modifiedAt = LocalDateTime.now();
     }
 }
@@ -0,0 +1,92 @@
+package smsoft.board.article.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 게시글 본문(content) 압축 컨버터.
+ * <p>
+ * 임계값 이상의 본문은 Deflate 압축 후 Base64로 인코딩하여 저장하고, 조회 시 투명하게 복원합니다.
+ * 컬럼(varchar(3000))의 길이 제한은 문자 수 기준이므로, 압축 결과가 원문보다 문자 수가 적을 때만 압축본을 저장합니다.
+ * 따라서 원문이 들어가는 본문은 압축 후에도 항상 컬럼에 들어갑니다.
+ * </p>
+ */
+@Component
+@Converter
+public class ArticleContentConverter implements AttributeConverter<String, String> {
+    static final String COMPRESSED_PREFIX = "\u0001deflate:";
+    // article.content 컬럼 길이 (문자 수)
+    static final int COLUMN_LENGTH = 3000;
+
+    private final boolean enabled;
+    private final int threshold;
+
+    public ArticleContentConverter(
+            @Value("${article.content-compression.enabled:false}") boolean enabled,
+            @Value("${article.content-compression.threshold:1024}") int threshold
+    ) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(String content) {
+        if (content == null) {
+            return null;
+        }
+        // 원문이 압축 접두어로 시작하면 조회 시 오인하지 않도록 항상 압축
+        if (isCompressed(content)) {
+            String compressed = compress(content);
+            if (compressed.length() > COLUMN_LENGTH) {
+                throw new IllegalArgumentException("압축 접두어로 시작하는 본문이 너무 깁니다. length=" + content.length());
+            }
+            return compressed;
+        }
+        if (!enabled || content.length() < threshold) {
+            return content;
+        }
+
+        String compressed = compress(content);
+        return compressed.length() < content.length() ? compressed : content;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String column) {
+        return isCompressed(column) ? decompress(column) : column;
+    }
+
+    public boolean isCompressed(String column) {
+        return column != null && column.startsWith(COMPRESSED_PREFIX);
+    }
+
+    private String compress(String content) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new DeflaterOutputStream(bytes)) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("게시글 본문 압축에 실패했습니다.", e);
+        }
+        return COMPRESSED_PREFIX + Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    private String decompress(String column) {
+        byte[] compressed = Base64.getDecoder().decode(column.substring(COMPRESSED_PREFIX.length()));
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("게시글 본문 압축 해제에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package smsoft.board.article.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+// 백그라운드 작업 상태 (여러 인스턴스 중 하나만 실행하기 위한 임대 잠금 + 재개용 커서)
+@Table(name = "article_job")
+@ToString
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class ArticleJob {
+    @Id
+    private String jobName;
+    private LocalDateTime lockedUntil;
+    private String lockedBy;
+    private Long cursorArticleId;
+}
@@ -0,0 +1,7 @@
+package smsoft.board.article.repository;
+
+// 본문 압축 백필용 프로젝션 (컨버터를 거치지 않은 저장 원본 content 조회)
+public interface ArticleContentRow {
+    Long getArticleId();
+    String getContent();
+}
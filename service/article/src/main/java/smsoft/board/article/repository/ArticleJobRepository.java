@@ -0,0 +1,54 @@
+package smsoft.board.article.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import smsoft.board.article.entity.ArticleJob;
+
+@Repository
+public interface ArticleJobRepository extends JpaRepository<ArticleJob, String> {
+    @Transactional
+    @Modifying
+    @Query(
+            value = "insert ignore into article_job (job_name, locked_until, locked_by, cursor_article_id) " +
+                    "values (:jobName, '1970-01-01 00:00:00', '', 0)",
+            nativeQuery = true
+    )
+    int createIfAbsent(@Param("jobName") String jobName);
+
+    // 만료된 잠금이거나 자신이 가진 잠금이면 임대 기간을 (DB 시각 기준으로) 연장하며 획득
+    @Transactional
+    @Modifying
+    @Query(
+            value = "update article_job " +
+                    "set locked_until = date_add(now(6), interval :leaseMillis * 1000 microsecond), locked_by = :owner " +
+                    "where job_name = :jobName and (locked_until < now(6) or locked_by = :owner)",
+            nativeQuery = true
+    )
+    int lock(@Param("jobName") String jobName, @Param("owner") String owner, @Param("leaseMillis") Long leaseMillis);
+
+    @Transactional
+    @Modifying
+    @Query(
+            value = "update article_job set locked_until = now(6) " +
+                    "where job_name = :jobName and locked_by = :owner",
+            nativeQuery = true
+    )
+    int unlock(@Param("jobName") String jobName, @Param("owner") String owner);
+
+    @Transactional
+    @Modifying
+    @Query(
+            value = "update article_job set cursor_article_id = :cursorArticleId " +
+                    "where job_name = :jobName and locked_by = :owner",
+            nativeQuery = true
+    )
+    int updateCursor(
+            @Param("jobName") String jobName,
+            @Param("owner") String owner,
+            @Param("cursorArticleId") Long cursorArticleId
+    );
+}
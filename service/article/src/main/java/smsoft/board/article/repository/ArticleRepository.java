@@ -1,22 +1,28 @@
 package smsoft.board.article.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import smsoft.board.article.entity.Article;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+// 선언한 조회 쿼리도 트랜잭션 밖에서 호출되면 읽기 전용 트랜잭션(레플리카)으로 실행 (변경 쿼리는 메서드마다 쓰기 트랜잭션으로 재선언)
+@Transactional(readOnly = true)
 @Repository
 public interface ArticleRepository extends JpaRepository<Article, Long> {
     // 커버링 인덱스를 활용한 페이징 최적화 쿼리 (Article 테이블의 모든 컬럼을 조회하지 않고 ID만 먼저 조회 후 조인)
     @Query(
             value = "select article.article_id, article.title, article.content, article.board_id, article.writer_id, " +
-                    "article.created_at, article.modified_at " +
+                    "article.created_at, article.modified_at, article.version, article.deleted " +
                     "from (" +
                     "   select article_id from article " +
-                    "   where board_id = :boardId " +
+                    "   where board_id = :boardId and deleted = false " +
                     "   order by article_id desc " +
                     "   limit :limit offset :offset " +
                     ") t left join article on article.article_id = t.article_id",
@@ -32,7 +38,7 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
     @Query(
         value = "select count(*) from (" +
                 "   select article_id from article " +
-                "   where board_id = :boardId " +
+                "   where board_id = :boardId and deleted = false " +
                 "   limit :limit " +
                 ") t",
         nativeQuery = true
@@ -44,9 +50,9 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
 
     @Query(
             value = "select article.article_id, article.title, article.content, article.board_id, article.writer_id, " +
-                    "article.created_at, article.modified_at " +
+                    "article.created_at, article.modified_at, article.version, article.deleted " +
                     "from article " +
-                    "where board_id = :boardId " +
+                    "where board_id = :boardId and deleted = false " +
                     "order by article_id desc limit :limit",
             nativeQuery = true
     )
@@ -54,12 +60,232 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
 
     @Query(
             value = "select article.article_id, article.title, article.content, article.board_id, article.writer_id, " +
-                    "article.created_at, article.modified_at " +
+                    "article.created_at, article.modified_at, article.version, article.deleted " +
                     "from article " +
-                    "where board_id = :boardId and article_id < :lastArticleId " +
+                    "where board_id = :boardId and article_id < :lastArticleId and deleted = false " +
                     "order by article_id desc limit :limit",
             nativeQuery = true
     )
     List<Article> findAllInfiniteScroll(@Param("boardId") Long boardId, @Param("limit") Long limit, @Param("lastArticleId") Long lastArticleId);
 
+    // 전체 게시글 PK 순차 조회 (article_id 기준 keyset 커서, 검색 색인 초기화용)
+    @Query(
+            value = "select article.article_id, article.title, article.content, article.board_id, article.writer_id, " +
+                    "article.created_at, article.modified_at, article.version, article.deleted " +
+                    "from article " +
+                    "where article_id > :lastArticleId and deleted = false " +
+                    "order by article_id asc limit :limit",
+            nativeQuery = true
+    )
+    List<Article> findAllAfter(@Param("lastArticleId") Long lastArticleId, @Param("limit") Long limit);
+
+    // 수정 시각 이후 변경된 게시글 조회 ((modified_at, article_id) 기준 keyset 커서, 논리 삭제 포함, 검색 색인 따라잡기용)
+    @Query(
+            value = "select article.article_id, article.title, article.content, article.board_id, article.writer_id, " +
+                    "article.created_at, article.modified_at, article.version, article.deleted " +
+                    "from article " +
+                    "where modified_at > :modifiedAt or (modified_at = :modifiedAt and article_id > :lastArticleId) " +
+                    "order by modified_at asc, article_id asc limit :limit",
+            nativeQuery = true
+    )
+    List<Article> findAllModifiedSince(
+            @Param("modifiedAt") LocalDateTime modifiedAt,
+            @Param("lastArticleId") Long lastArticleId,
+            @Param("limit") Long limit
+    );
+
+    // 본문 압축 백필용 PK 순차 조회 (article_id 기준 keyset 커서)
+    @Query(
+            value = "select article.article_id as articleId, article.content as content " +
+                    "from article " +
+                    "where article_id > :lastArticleId " +
+                    "order by article_id asc limit :limit",
+            nativeQuery = true
+    )
+    List<ArticleContentRow> findAllContents(@Param("lastArticleId") Long lastArticleId, @Param("limit") Long limit);
+
+    // 읽은 뒤 사용자가 본문을 수정했다면 덮어쓰지 않도록 이전 값이 그대로일 때만 변경
+    @Transactional
+    @Modifying
+    @Query(
+            value = "update article set content = :content " +
+                    "where article_id = :articleId and content = :previousContent",
+            nativeQuery = true
+    )
+    int updateContent(
+            @Param("articleId") Long articleId,
+            @Param("previousContent") String previousContent,
+            @Param("content") String content
+    );
+
+    // 수정 전 조회 없이 버전 조건부 단일 UPDATE (null인 필드는 유지, content는 컨버터를 거친 저장 값을 전달해야 함)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(
+            value = "update article " +
+                    "set title = coalesce(:title, title), content = coalesce(:content, content), " +
+                    "modified_at = :modifiedAt, version = version + 1 " +
+                    "where article_id = :articleId and version = :version and deleted = false",
+            nativeQuery = true
+    )
+    int update(
+            @Param("articleId") Long articleId,
+            @Param("title") String title,
+            @Param("content") String content,
+            @Param("modifiedAt") LocalDateTime modifiedAt,
+            @Param("version") Long version
+    );
+
+    // 보관 테이블(article_archive) 단건 조회
+    @Query(
+            value = "select article_archive.article_id, article_archive.title, article_archive.content, " +
+                    "article_archive.board_id, article_archive.writer_id, " +
+                    "article_archive.created_at, article_archive.modified_at, article_archive.version, " +
+                    "article_archive.deleted " +
+                    "from article_archive " +
+                    "where article_id = :articleId",
+            nativeQuery = true
+    )
+    Optional<Article> findArchivedById(@Param("articleId") Long articleId);
+
+    // 보관 테이블 무한 스크롤 (운영 테이블 결과가 부족할 때 이어서 조회, export도 같은 커서로 이어서 조회)
+    @Query(
+            value = "select article_archive.article_id, article_archive.title, article_archive.content, " +
+                    "article_archive.board_id, article_archive.writer_id, " +
+                    "article_archive.created_at, article_archive.modified_at, article_archive.version, " +
+                    "article_archive.deleted " +
+                    "from article_archive " +
+                    "where board_id = :boardId and article_id < :lastArticleId and deleted = false " +
+                    "order by article_id desc limit :limit",
+            nativeQuery = true
+    )
+    List<Article> findAllArchivedInfiniteScroll(
+            @Param("boardId") Long boardId,
+            @Param("limit") Long limit,
+            @Param("lastArticleId") Long lastArticleId
+    );
+
+    // 보관 테이블 버전 조건부 단일 UPDATE (보관된 게시글도 수정 가능, content는 컨버터를 거친 저장 값을 전달해야 함)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(
+            value = "update article_archive " +
+                    "set title = coalesce(:title, title), content = coalesce(:content, content), " +
+                    "modified_at = :modifiedAt, version = version + 1 " +
+                    "where article_id = :articleId and version = :version and deleted = false",
+            nativeQuery = true
+    )
+    int updateArchived(
+            @Param("articleId") Long articleId,
+            @Param("title") String title,
+            @Param("content") String content,
+            @Param("modifiedAt") LocalDateTime modifiedAt,
+            @Param("version") Long version
+    );
+
+    // 보관된 게시글 삭제 (조회가 드문 보관 테이블이므로 논리 삭제 없이 바로 물리 삭제)
+    @Transactional
+    @Modifying
+    @Query(
+            value = "delete from article_archive where article_id in (:articleIds)",
+            nativeQuery = true
+    )
+    int deleteArchivedAllByArticleIdIn(@Param("articleIds") List<Long> articleIds);
+
+    @Query(
+            value = "select article_id from article_archive " +
+                    "where writer_id = :writerId and deleted = false",
+            nativeQuery = true
+    )
+    List<Long> findAllArchivedIdsByWriterId(@Param("writerId") Long writerId);
+
+    @Query(
+            value = "select distinct board_id from article_archive " +
+                    "where article_id in (:articleIds)",
+            nativeQuery = true
+    )
+    List<Long> findAllArchivedBoardIdsByArticleIdIn(@Param("articleIds") List<Long> articleIds);
+
+    @Query(
+            value = "select article_id from article_archive " +
+                    "where article_id in (:articleIds)",
+            nativeQuery = true
+    )
+    List<Long> findAllArchivedIdsByArticleIdIn(@Param("articleIds") List<Long> articleIds);
+
+    // 보관 대상 ID 조회 (경계 ID 미만을 PK 순서로, 이미 옮긴 행은 삭제되어 있으므로 항상 처음부터 조회해도 이어서 진행됨)
+    @Query(
+            value = "select article_id from article " +
+                    "where article_id < :boundaryArticleId and deleted = false " +
+                    "order by article_id asc limit :limit",
+            nativeQuery = true
+    )
+    List<Long> findArchiveTargetIds(@Param("boundaryArticleId") Long boundaryArticleId, @Param("limit") Long limit);
+
+    // 복사된 행 수가 대상 ID 수와 다르면 호출 측에서 롤백 (오류를 경고로 바꾸는 insert ignore는 사용하지 않음)
+    @Transactional
+    @Modifying
+    @Query(
+            value = "insert into article_archive " +
+                    "(article_id, title, content, board_id, writer_id, created_at, modified_at, version, deleted) " +
+                    "select article_id, title, content, board_id, writer_id, created_at, modified_at, version, deleted " +
+                    "from article where article_id in (:articleIds) and deleted = false",
+            nativeQuery = true
+    )
+    int copyToArchive(@Param("articleIds") List<Long> articleIds);
+
+    @Transactional
+    @Modifying
+    @Query(
+            value = "delete from article where article_id in (:articleIds) and deleted = false",
+            nativeQuery = true
+    )
+    int deleteAllByArticleIdIn(@Param("articleIds") List<Long> articleIds);
+
+    @Query(
+            value = "select article_id from article " +
+                    "where writer_id = :writerId and deleted = false",
+            nativeQuery = true
+    )
+    List<Long> findAllIdsByWriterId(@Param("writerId") Long writerId);
+
+    @Query(
+            value = "select board_id from article where article_id = :articleId",
+            nativeQuery = true
+    )
+    Optional<Long> findBoardIdById(@Param("articleId") Long articleId);
+
+    @Query(
+            value = "select board_id from article_archive where article_id = :articleId",
+            nativeQuery = true
+    )
+    Optional<Long> findArchivedBoardIdById(@Param("articleId") Long articleId);
+
+    @Query(
+            value = "select distinct board_id from article " +
+                    "where article_id in (:articleIds)",
+            nativeQuery = true
+    )
+    List<Long> findAllBoardIdsByArticleIdIn(@Param("articleIds") List<Long> articleIds);
+
+    // 논리 삭제 (목록 쿼리에서 즉시 제외, 물리 삭제는 ArticlePurgeService가 담당, 다른 인스턴스 검색 색인이 알 수 있도록 수정 시각 갱신)
+    @Transactional
+    @Modifying
+    @Query(
+            value = "update article set deleted = true, version = version + 1, modified_at = :modifiedAt " +
+                    "where article_id in (:articleIds) and deleted = false",
+            nativeQuery = true
+    )
+    int softDeleteAllByArticleIdIn(@Param("articleIds") List<Long> articleIds, @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    // 논리 삭제된 게시글을 PK 순서로 소량씩 물리 삭제 (행 잠금 시간과 복제 지연 최소화)
+    @Transactional
+    @Modifying
+    @Query(
+            value = "delete from article where deleted = true " +
+                    "order by article_id asc limit :limit",
+            nativeQuery = true
+    )
+    int purgeDeleted(@Param("limit") Long limit);
+
 }
@@ -0,0 +1,126 @@
+package smsoft.board.article.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import smsoft.board.article.repository.ArticleRepository;
+import smsoft.board.common.snowflake.Snowflake;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 오래된 게시글 보관(article -> article_archive) 작업.
+ * <p>
+ * Snowflake ID에는 생성 시각이 포함되어 있으므로 보관 기준 시각을 경계 ID로 변환하여
+ * PK 범위로 대상 게시글을 찾습니다. 청크 단위로 복사/삭제를 한 트랜잭션에서 수행하고
+ * 청크 사이에 쉬어 운영 트래픽과 복제 지연에 주는 영향을 제한합니다.
+ * 옮긴 행은 운영 테이블에서 삭제되므로 중단되더라도 다음 실행에서 이어서 진행됩니다.
+ * 여러 인스턴스가 같은 행을 동시에 옮기며 교착 상태에 빠지지 않도록 잠금을 획득한 하나만 실행합니다.
+ * </p>
+ * <p>
+ * 보관된 게시글은 단건 조회/수정/삭제, 일괄 삭제, 무한 스크롤, export에서 보관 테이블까지 이어서 처리되지만
+ * 오프셋 페이지 목록(readAll)과 검색에서는 제외됩니다.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleArchiveService {
+    static final String JOB_NAME = "article-archive";
+
+    private final ArticleRepository articleRepository;
+    private final ArticlePageCache articlePageCache;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleJobLock articleJobLock;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${article.archive.enabled:false}")
+    private boolean enabled;
+    @Value("${article.archive.retention:365d}")
+    private Duration retention;
+    @Value("${article.archive.chunk-size:500}")
+    private Long chunkSize;
+    @Value("${article.archive.pause:200ms}")
+    private Duration pause;
+    @Value("${article.archive.max-chunks-per-run:1000}")
+    private int maxChunksPerRun;
+    @Value("${article.archive.lease:5m}")
+    private Duration lease;
+
+    @Scheduled(fixedDelayString = "${article.archive.interval-millis:3600000}")
+    public void archive() {
+        if (!enabled || !articleJobLock.tryLock(JOB_NAME, lease)) {
+            return;
+        }
+
+        try {
+            archiveChunks();
+        } finally {
+            articleJobLock.unlock(JOB_NAME);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private void archiveChunks() {
+        long boundaryArticleId = boundaryArticleId();
+        long archivedCount = 0;
+
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            List<Long> articleIds = articleRepository.findArchiveTargetIds(boundaryArticleId, chunkSize);
+            if (articleIds.isEmpty()) {
+                break;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> moveToArchive(articleIds));
+            } catch (IllegalStateException e) {
+                // 조회 이후 논리 삭제된 행 등으로 복사/삭제 수가 어긋나면 청크 전체를 롤백하고 다음 실행에서 다시 시도
+                log.warn("[ArticleArchiveService.archive] chunk rolled back. {}", e.getMessage());
+                break;
+            }
+            archivedCount += articleIds.size();
+
+            if (!articleJobLock.tryLock(JOB_NAME, lease) || !sleep()) {
+                break;
+            }
+        }
+
+        log.info("[ArticleArchiveService.archive] archived = {}, boundaryArticleId = {}", archivedCount, boundaryArticleId);
+    }
+
+    private void moveToArchive(List<Long> articleIds) {
+        List<Long> boardIds = articleRepository.findAllBoardIdsByArticleIdIn(articleIds);
+        int copiedCount = articleRepository.copyToArchive(articleIds);
+        if (copiedCount != articleIds.size()) {
+            throw new IllegalStateException("copied = %s, targets = %s".formatted(copiedCount, articleIds.size()));
+        }
+        int deletedCount = articleRepository.deleteAllByArticleIdIn(articleIds);
+        if (deletedCount != copiedCount) {
+            throw new IllegalStateException("deleted = %s, copied = %s".formatted(deletedCount, copiedCount));
+        }
+
+        // 목록 캐시에서 옮긴 게시글이 보이지 않도록 무효화하고, 검색 대상에서 제외
+        boardIds.forEach(articlePageCache::invalidate);
+        TransactionCallbacks.afterCommit(() -> articleIds.forEach(articleSearchIndex::remove));
+    }
+
+    private long boundaryArticleId() {
+        return Snowflake.minIdAt(System.currentTimeMillis() - retention.toMillis());
+    }
+    private boolean sleep() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package smsoft.board.article.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import smsoft.board.article.repository.ArticleRepository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 게시글 ID -> 게시판 ID 조회 (ID만으로 요청하는 엔드포인트에 게시판별 동시성 제한을 적용하기 위함).
+ * <p>
+ * 게시글의 게시판은 바뀌지 않으므로 조회 결과를 만료 없이 LRU로 캐시하여 반복 요청 시 추가 쿼리가 없도록 합니다.
+ * 존재하지 않는 게시글은 캐시하지 않으므로, 캐시에 없는 게시글의 조회 쿼리는 호출하는 쪽에서
+ * 게시판 구분 없는 공용 한도 안에서 수행하여 임의의 ID 요청이 커넥션 풀을 점유하지 않도록 합니다.
+ * </p>
+ */
+@Component
+public class ArticleBoardIdResolver {
+    private final ArticleRepository articleRepository;
+    private final ArticleArchiveService articleArchiveService;
+    private final Map<Long, Long> boardIds;
+
+    public ArticleBoardIdResolver(
+            ArticleRepository articleRepository,
+            ArticleArchiveService articleArchiveService,
+            @Value("${article.board-id-cache.max-size:100000}") int maxSize
+    ) {
+        this.articleRepository = articleRepository;
+        this.articleArchiveService = articleArchiveService;
+        this.boardIds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    // 캐시된 게시판 ID (없으면 null, 쿼리 없음)
+    public Long findCached(Long articleId) {
+        synchronized (boardIds) {
+            return boardIds.get(articleId);
+        }
+    }
+
+    // 게시글이 없으면 null
+    public Long resolve(Long articleId) {
+        Long cached = findCached(articleId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Optional<Long> boardId = articleRepository.findBoardIdById(articleId);
+        if (boardId.isEmpty() && articleArchiveService.isEnabled()) {
+            boardId = articleRepository.findArchivedBoardIdById(articleId);
+        }
+        boardId.ifPresent(id -> {
+            synchronized (boardIds) {
+                boardIds.put(articleId, id);
+            }
+        });
+        return boardId.orElse(null);
+    }
+}
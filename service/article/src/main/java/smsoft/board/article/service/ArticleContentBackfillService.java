@@ -0,0 +1,126 @@
+package smsoft.board.article.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import smsoft.board.article.entity.ArticleContentConverter;
+import smsoft.board.article.repository.ArticleContentRow;
+import smsoft.board.article.repository.ArticleRepository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 기존 게시글 본문 압축 백필 작업.
+ * <p>
+ * PK 순서로 청크 단위 스캔하며 압축 대상 본문을 재저장합니다. 청크마다 변경과 커서를 한 트랜잭션에서
+ * 커밋하므로 중단되더라도 다음 실행에서 마지막 커서부터 이어서 진행되고, 청크 사이에 쉬어
+ * 운영 트래픽과 복제 지연에 주는 영향을 제한합니다. 여러 인스턴스 중 잠금을 획득한 하나만 실행합니다.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleContentBackfillService {
+    static final String JOB_NAME = "article-content-backfill";
+
+    private final ArticleRepository articleRepository;
+    private final ArticleContentConverter articleContentConverter;
+    private final ArticleJobLock articleJobLock;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${article.content-compression.backfill.enabled:false}")
+    private boolean enabled;
+    @Value("${article.content-compression.backfill.chunk-size:500}")
+    private Long chunkSize;
+    @Value("${article.content-compression.backfill.pause:200ms}")
+    private Duration pause;
+    @Value("${article.content-compression.backfill.max-chunks-per-run:1000}")
+    private int maxChunksPerRun;
+    @Value("${article.content-compression.backfill.lease:5m}")
+    private Duration lease;
+
+    @Scheduled(fixedDelayString = "${article.content-compression.backfill.interval-millis:600000}")
+    public void backfill() {
+        if (!enabled || !articleJobLock.tryLock(JOB_NAME, lease)) {
+            return;
+        }
+
+        try {
+            backfillChunks();
+        } finally {
+            articleJobLock.unlock(JOB_NAME);
+        }
+    }
+
+    private void backfillChunks() {
+        long start = System.currentTimeMillis();
+        long scannedCount = 0;
+        long compressedCount = 0;
+        Long lastArticleId = articleJobLock.readCursor(JOB_NAME);
+
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            List<ArticleContentRow> rows = articleRepository.findAllContents(lastArticleId, chunkSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            Long cursor = rows.getLast().getArticleId();
+            Long chunkCompressedCount = transactionTemplate.execute(status -> {
+                if (!articleJobLock.saveCursor(JOB_NAME, cursor)) {
+                    // 임대가 만료되어 다른 인스턴스가 잠금을 가져간 경우 이 청크는 반영하지 않음
+                    status.setRollbackOnly();
+                    return null;
+                }
+                return compress(rows);
+            });
+            if (chunkCompressedCount == null) {
+                log.warn("[ArticleContentBackfillService.backfill] lost lock. lastArticleId = {}", lastArticleId);
+                return;
+            }
+
+            scannedCount += rows.size();
+            compressedCount += chunkCompressedCount;
+            lastArticleId = cursor;
+
+            if (!articleJobLock.tryLock(JOB_NAME, lease) || !sleep()) {
+                break;
+            }
+        }
+
+        long elapsedMillis = System.currentTimeMillis() - start;
+        log.info("[ArticleContentBackfillService.backfill] scanned = {}, compressed = {}, lastArticleId = {}, " +
+                        "scannedRowsPerSecond = {}",
+                scannedCount, compressedCount, lastArticleId,
+                elapsedMillis == 0 ? scannedCount : scannedCount * 1000 / elapsedMillis);
+    }
+
+    private long compress(List<ArticleContentRow> rows) {
+        long compressedCount = 0;
+        for (ArticleContentRow row : rows) {
+            String content = row.getContent();
+            if (articleContentConverter.isCompressed(content)) {
+                continue;
+            }
+
+            String column = articleContentConverter.convertToDatabaseColumn(content);
+            if (!column.equals(content)) {
+                compressedCount += articleRepository.updateContent(row.getArticleId(), content, column);
+            }
+        }
+        return compressedCount;
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
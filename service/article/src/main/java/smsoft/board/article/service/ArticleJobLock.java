@@ -0,0 +1,45 @@
+package smsoft.board.article.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import smsoft.board.article.entity.ArticleJob;
+import smsoft.board.article.repository.ArticleJobRepository;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * article_job 테이블 기반 임대(lease) 잠금.
+ * <p>
+ * 모든 인스턴스에서 스케줄러가 돌더라도 잠금을 획득한 한 인스턴스만 작업을 수행합니다.
+ * 임대 만료 시각은 DB 시각으로 계산하므로 인스턴스 간 시계 차이의 영향을 받지 않으며,
+ * 작업 도중 죽은 인스턴스의 잠금은 임대 기간이 지나면 다른 인스턴스가 가져갑니다.
+ * 긴 작업은 청크마다 {@link #tryLock}을 다시 호출하여 임대를 연장해야 합니다.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Component
+public class ArticleJobLock {
+    private final String owner = UUID.randomUUID().toString();
+    private final ArticleJobRepository articleJobRepository;
+
+    public boolean tryLock(String jobName, Duration lease) {
+        articleJobRepository.createIfAbsent(jobName);
+        return articleJobRepository.lock(jobName, owner, lease.toMillis()) == 1;
+    }
+
+    public void unlock(String jobName) {
+        articleJobRepository.unlock(jobName, owner);
+    }
+
+    public Long readCursor(String jobName) {
+        return articleJobRepository.findById(jobName)
+                .map(ArticleJob::getCursorArticleId)
+                .orElse(0L);
+    }
+
+    // 잠금을 가진 경우에만 반영 (반영된 경우 true)
+    public boolean saveCursor(String jobName, Long cursorArticleId) {
+        return articleJobRepository.updateCursor(jobName, owner, cursorArticleId) == 1;
+    }
+}
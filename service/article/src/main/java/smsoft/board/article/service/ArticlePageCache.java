@@ -0,0 +1,145 @@
+package smsoft.board.article.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import smsoft.board.article.config.PrimaryPinContext;
+import smsoft.board.article.service.response.ArticlePageResponse;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 게시판 페이지 목록(ArticlePageResponse) 캐시.
+ * <p>
+ * 캐시 키에 게시판별 버전을 포함하여, 게시글 생성/수정/삭제 시 버전만 올리면 해당 게시판의 모든 페이지가
+ * 키 스캔 없이 O(1)로 무효화됩니다. 이전 버전의 엔트리는 더 이상 조회되지 않고 LRU로 밀려나며,
+ * 다른 인스턴스에서 처리된 변경은 이 인스턴스의 버전을 올리지 않으므로 TTL 이내로만 늦게 반영됩니다.
+ * 버전을 올린 직후에는 레플리카가 아직 변경을 받지 못했을 수 있으므로, 복제 지연 상한 안에 레플리카에서 채운 엔트리는
+ * 만료 시각을 (버전 증가 시각 + 복제 지연 상한)으로 앞당겨 이전 데이터가 새 버전으로 TTL 내내 남지 않도록 합니다.
+ * 이 구간의 조회도 레플리카에서 수행하므로, 쓰기가 잦은 게시판에서도 목록 조회가 프라이머리로 몰리지 않습니다.
+ * 프라이머리로 고정된 요청(쓰기 직후 read-your-writes)은 다른 인스턴스에서 무효화되지 않은 엔트리를 볼 수 있으므로
+ * 캐시를 거치지 않습니다.
+ * </p>
+ */
+@Component
+public class ArticlePageCache {
+    // 페이지 깊이 구간 상한 (1, 2~10, 11~100, 101~1000, 1001~)
+    private static final long[] DEPTH_UPPER_BOUNDS = {1L, 10L, 100L, 1000L, Long.MAX_VALUE};
+    private static final String[] DEPTH_LABELS = {"1", "2-10", "11-100", "101-1000", "1001+"};
+
+    private final int maxSize;
+    private final long timeToLiveMillis;
+    private final long replicaLagMillis;
+    private final Map<Long, BoardVersion> boardVersions = new ConcurrentHashMap<>();
+    private final Map<PageKey, Window> windows;
+    private final LongAdder[] hits = createCounters();
+    private final LongAdder[] misses = createCounters();
+
+    public ArticlePageCache(
+            @Value("${article.page-cache.max-size:10000}") int maxSize,
+            @Value("${article.page-cache.time-to-live:10s}") Duration timeToLive,
+            @Value("${article.datasource.read-your-writes-window:3s}") Duration replicaLag
+    ) {
+        this.maxSize = maxSize;
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.replicaLagMillis = replicaLag.toMillis();
+        this.windows = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PageKey, Window> eldest) {
+                return size() > ArticlePageCache.this.maxSize;
+            }
+        };
+    }
+
+    public ArticlePageResponse get(Long boardId, Long page, Long pageSize, Supplier<ArticlePageResponse> loader) {
+        if (PrimaryPinContext.isPinned()) {
+            return loader.get();
+        }
+
+        // 조회 전 버전으로 키를 만들어야 조회 중 발생한 변경이 반영되지 않은 결과가 최신 버전으로 저장되지 않음
+        BoardVersion version = boardVersions.getOrDefault(boardId, BoardVersion.INITIAL);
+        PageKey key = new PageKey(boardId, page, pageSize, version.version());
+        int depth = depthIndex(page);
+        long now = System.currentTimeMillis();
+
+        Window window;
+        synchronized (windows) {
+            window = windows.get(key);
+        }
+        if (window != null && window.expiresAt() > now) {
+            hits[depth].increment();
+            return window.response();
+        }
+
+        misses[depth].increment();
+        ArticlePageResponse response = loader.get();
+        long expiresAt = now + timeToLiveMillis;
+        if (now - version.bumpedAt() < replicaLagMillis) {
+            // 복제 지연 구간에 레플리카에서 읽은 결과는 변경 이전 데이터일 수 있으므로 지연 상한이 지나면 다시 조회
+            expiresAt = Math.min(expiresAt, version.bumpedAt() + replicaLagMillis);
+        }
+        synchronized (windows) {
+            windows.put(key, new Window(response, expiresAt));
+        }
+        return response;
+    }
+
+    // 게시판 버전 증가 (트랜잭션 안이면 커밋 이후에 증가시켜 커밋 전 데이터가 새 버전으로 캐시되지 않도록 함)
+    public void invalidate(Long boardId) {
+        TransactionCallbacks.afterCommit(() -> bumpVersion(boardId));
+    }
+
+    public Map<String, Double> hitRatioByPageDepth() {
+        Map<String, Double> hitRatios = new LinkedHashMap<>();
+        for (int i = 0; i < DEPTH_LABELS.length; i++) {
+            long hitCount = hits[i].sum();
+            long total = hitCount + misses[i].sum();
+            hitRatios.put(DEPTH_LABELS[i], total == 0 ? 0.0 : (double) hitCount / total);
+        }
+        return hitRatios;
+    }
+
+    public int size() {
+        synchronized (windows) {
+            return windows.size();
+        }
+    }
+
+    private void bumpVersion(Long boardId) {
+        long now = System.currentTimeMillis();
+        boardVersions.compute(boardId, (key, version) -> new BoardVersion(
+                version == null ? 1L : version.version() + 1,
+                now
+        ));
+    }
+
+    private static int depthIndex(Long page) {
+        int index = 0;
+        while (page > DEPTH_UPPER_BOUNDS[index]) {
+            index++;
+        }
+        return index;
+    }
+
+    private static LongAdder[] createCounters() {
+        LongAdder[] counters = new LongAdder[DEPTH_LABELS.length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+    private record PageKey(Long boardId, Long page, Long pageSize, long boardVersion) {
+    }
+
+    private record BoardVersion(long version, long bumpedAt) {
+        static final BoardVersion INITIAL = new BoardVersion(0L, 0L);
+    }
+
+    private record Window(ArticlePageResponse response, long expiresAt) {
+    }
+}
@@ -0,0 +1,78 @@
+package smsoft.board.article.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import smsoft.board.article.repository.ArticleRepository;
+
+import java.time.Duration;
+
+/**
+ * 논리 삭제된 게시글 물리 삭제 작업.
+ * <p>
+ * 작은 청크 단위로 PK 순서대로 삭제하고 청크마다 커밋하여 행 잠금 시간과 복제 지연을 낮게 유지합니다.
+ * 여러 인스턴스가 같은 행을 동시에 삭제하며 잠금 경합을 일으키지 않도록 잠금을 획득한 하나만 실행합니다.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticlePurgeService {
+    static final String JOB_NAME = "article-purge";
+
+    private final ArticleRepository articleRepository;
+    private final ArticleJobLock articleJobLock;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${article.purge.enabled:true}")
+    private boolean enabled;
+    @Value("${article.purge.chunk-size:200}")
+    private Long chunkSize;
+    @Value("${article.purge.pause:100ms}")
+    private Duration pause;
+    @Value("${article.purge.max-chunks-per-run:500}")
+    private int maxChunksPerRun;
+    @Value("${article.purge.lease:5m}")
+    private Duration lease;
+
+    @Scheduled(fixedDelayString = "${article.purge.interval-millis:60000}")
+    public void purge() {
+        if (!enabled || !articleJobLock.tryLock(JOB_NAME, lease)) {
+            return;
+        }
+
+        try {
+            purgeChunks();
+        } finally {
+            articleJobLock.unlock(JOB_NAME);
+        }
+    }
+
+    private void purgeChunks() {
+        long purgedCount = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            Integer deletedCount = transactionTemplate.execute(status -> articleRepository.purgeDeleted(chunkSize));
+            purgedCount += deletedCount;
+            if (deletedCount < chunkSize || !articleJobLock.tryLock(JOB_NAME, lease) || !sleep()) {
+                break;
+            }
+        }
+
+        if (purgedCount > 0) {
+            log.info("[ArticlePurgeService.purge] purged = {}", purgedCount);
+        }
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package smsoft.board.article.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/본문 인메모리 역색인.
+ * <p>
+ * 게시판별로 (단어 -> 게시글 ID 포스팅 리스트)를 유지하며, 수정/삭제 시 이전 단어를 제거하기 위해
+ * 게시글별 단어 목록(정방향 색인)과 색인한 버전도 함께 보관합니다. 단어는 공백/문장부호 기준으로 분리하며 형태소 분석은 하지 않습니다.
+ * </p>
+ */
+@Component
+public class ArticleSearchIndex {
+    private static final long[] EMPTY = new long[0];
+    private static final Comparator<PostingList> BY_SIZE = Comparator.comparingInt(PostingList::size);
+
+    private final Map<Long, Map<String, PostingList>> postings = new HashMap<>();
+    private final Map<Long, IndexedArticle> articles = new HashMap<>();
+    private final Set<Long> removedDuringBootstrap = new HashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private boolean bootstrapping;
+
+    /**
+     * 게시글을 색인합니다. 이미 같거나 더 최신 버전이 색인되어 있으면 무시하므로,
+     * 기동 시 초기 색인이 읽은 이전 스냅샷이나 순서가 뒤바뀐 커밋 이후 콜백이 최신 내용을 덮어쓰지 않습니다.
+     */
+    public void index(Long articleId, Long boardId, String title, String content, Long version) {
+        // 따라잡기가 겹쳐 읽은 이미 색인된 게시글은 토큰화 없이 읽기 잠금만으로 건너뜀
+        lock.readLock().lock();
+        try {
+            if (isStale(articleId, version)) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        String[] terms = tokenize(title, content);
+        lock.writeLock().lock();
+        try {
+            if (isStale(articleId, version)) {
+                return;
+            }
+
+            removeInternal(articleId);
+            Map<String, PostingList> boardPostings = postings.computeIfAbsent(boardId, key -> new HashMap<>());
+            for (String term : terms) {
+                boardPostings.computeIfAbsent(term, key -> new PostingList()).add(articleId);
+            }
+            articles.put(articleId, new IndexedArticle(boardId, terms, version));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(articleId);
+            // 삭제/보관은 되돌려지지 않으므로 초기 색인 중이면 이전 스냅샷으로 다시 색인되지 않도록 기록
+            if (bootstrapping) {
+                removedDuringBootstrap.add(articleId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void startBootstrap() {
+        lock.writeLock().lock();
+        try {
+            bootstrapping = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void completeBootstrap() {
+        lock.writeLock().lock();
+        try {
+            bootstrapping = false;
+            removedDuringBootstrap.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 검색어를 포함하는 게시글 ID를 최신순(ID 내림차순)으로 반환합니다.
+     *
+     * @param lastArticleId 지정 시 이 ID보다 작은 게시글부터 조회 (무한 스크롤 커서)
+     */
+    public long[] search(Long boardId, String query, int limit, Long lastArticleId) {
+        String[] terms = tokenize(query);
+        if (terms.length == 0 || limit <= 0) {
+            return EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<String, PostingList> boardPostings = postings.get(boardId);
+            if (boardPostings == null) {
+                return EMPTY;
+            }
+
+            PostingList[] lists = new PostingList[terms.length];
+            for (int i = 0; i < terms.length; i++) {
+                lists[i] = boardPostings.get(terms[i]);
+                if (lists[i] == null) {
+                    return EMPTY;
+                }
+            }
+            // 가장 짧은 포스팅 리스트를 기준으로 나머지 리스트에 포함 여부를 이진 탐색
+            Arrays.sort(lists, BY_SIZE);
+
+            PostingList smallest = lists[0];
+            int start = smallest.size();
+            if (lastArticleId != null) {
+                int index = smallest.binarySearch(lastArticleId, start);
+                start = index >= 0 ? index : -index - 1;
+            }
+
+            // 내림차순으로 순회하므로 각 리스트의 탐색 상한을 점점 좁혀감
+            int[] upperBounds = new int[lists.length];
+            for (int i = 1; i < lists.length; i++) {
+                upperBounds[i] = lists[i].size();
+            }
+
+            long[] result = new long[Math.min(limit, start)];
+            int count = 0;
+            for (int i = start - 1; i >= 0 && count < result.length; i--) {
+                long articleId = smallest.get(i);
+                if (containsAll(lists, upperBounds, articleId)) {
+                    result[count++] = articleId;
+                }
+            }
+            return count == result.length ? result : Arrays.copyOf(result, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return articles.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean containsAll(PostingList[] lists, int[] upperBounds, long articleId) {
+        for (int i = 1; i < lists.length; i++) {
+            int index = lists[i].binarySearch(articleId, upperBounds[i]);
+            if (index < 0) {
+                upperBounds[i] = -index - 1;
+                return false;
+            }
+            upperBounds[i] = index;
+        }
+        return true;
+    }
+
+    private boolean isStale(Long articleId, Long version) {
+        IndexedArticle indexed = articles.get(articleId);
+        return (indexed != null && indexed.version() >= version) || removedDuringBootstrap.contains(articleId);
+    }
+
+    private void removeInternal(Long articleId) {
+        IndexedArticle indexed = articles.remove(articleId);
+        if (indexed == null) {
+            return;
+        }
+
+        Map<String, PostingList> boardPostings = postings.get(indexed.boardId());
+        for (String term : indexed.terms()) {
+            PostingList postingList = boardPostings.get(term);
+            if (postingList != null && postingList.remove(articleId) && postingList.isEmpty()) {
+                boardPostings.remove(term);
+            }
+        }
+    }
+
+    static String[] tokenize(String... texts) {
+        Set<String> terms = new LinkedHashSet<>();
+        StringBuilder term = new StringBuilder();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (Character.isLetterOrDigit(c)) {
+                    term.append(c);
+                } else {
+                    addTerm(terms, term);
+                }
+            }
+            addTerm(terms, term);
+        }
+        return terms.toArray(String[]::new);
+    }
+
+    private static void addTerm(Set<String> terms, StringBuilder term) {
+        if (!term.isEmpty()) {
+            terms.add(term.toString().toLowerCase(Locale.ROOT));
+            term.setLength(0);
+        }
+    }
+
+    private record IndexedArticle(Long boardId, String[] terms, Long version) {
+    }
+}
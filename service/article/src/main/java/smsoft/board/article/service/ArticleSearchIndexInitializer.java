@@ -0,0 +1,138 @@
+package smsoft.board.article.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import smsoft.board.article.entity.Article;
+import smsoft.board.article.repository.ArticleRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 검색 색인 초기화 및 따라잡기.
+ * <p>
+ * 커밋 이후 콜백은 같은 인스턴스에서 처리된 쓰기만 색인하므로, 다른 인스턴스에서 생성/수정/삭제된 게시글은
+ * 주기적으로 DB를 다시 읽어 반영합니다. 초기 색인과 같은 article_id keyset 스캔으로 새 게시글을,
+ * (modified_at, article_id) keyset 스캔으로 수정/논리 삭제된 게시글을 반영하며,
+ * 인스턴스 간 시계 차이와 레플리카 복제 지연을 고려해 수정 시각 기준은 일정 시간 겹쳐서 다시 읽습니다.
+ * 이미 같은 버전이 색인된 게시글은 색인에서 무시되므로 겹쳐 읽어도 결과는 같습니다.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleSearchIndexInitializer {
+    private static final Long CHUNK_SIZE = 1000L;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+
+    @Value("${article.search.bootstrap-enabled:true}")
+    private boolean bootstrapEnabled;
+    @Value("${article.search.catch-up.overlap:30s}")
+    private Duration catchUpOverlap;
+
+    // 초기 색인 완료 후에만 따라잡기 실행 (초기 색인이 실패해도 마지막 커서부터 이어서 진행)
+    private volatile boolean ready;
+    private volatile Long lastArticleId = 0L;
+    private volatile LocalDateTime modifiedSince;
+
+    // 기동 완료 후 백그라운드에서 전체 게시글을 PK 순서로 청크 단위 스트리밍하며 색인 (기동 시간에 영향 없음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!bootstrapEnabled) {
+            return;
+        }
+        Thread.ofVirtual().name("article-search-index-initializer").start(this::bootstrap);
+    }
+
+    void bootstrap() {
+        long start = System.currentTimeMillis();
+        modifiedSince = LocalDateTime.now();
+
+        // 초기 색인 중 삭제된 게시글이 이전 스냅샷으로 다시 색인되지 않도록 표시 (수정은 버전 비교로 보호)
+        articleSearchIndex.startBootstrap();
+        try {
+            long indexedCount = indexNewArticles();
+            log.info("[ArticleSearchIndexInitializer.bootstrap] indexed = {}, elapsed = {}ms",
+                    indexedCount, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("[ArticleSearchIndexInitializer.bootstrap] failed. lastArticleId = {}", lastArticleId, e);
+        } finally {
+            articleSearchIndex.completeBootstrap();
+            ready = true;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${article.search.catch-up.interval-millis:5000}")
+    public void catchUp() {
+        if (!ready) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            long createdCount = indexNewArticles();
+            long modifiedCount = applyModifiedArticles(modifiedSince.minus(catchUpOverlap));
+            modifiedSince = startedAt;
+            if (createdCount + modifiedCount > 0) {
+                log.debug("[ArticleSearchIndexInitializer.catchUp] created = {}, modified = {}", createdCount, modifiedCount);
+            }
+        } catch (Exception e) {
+            log.warn("[ArticleSearchIndexInitializer.catchUp] failed. lastArticleId = {}", lastArticleId, e);
+        }
+    }
+
+    // 마지막으로 색인한 article_id 이후의 게시글을 PK 순서로 색인
+    private long indexNewArticles() {
+        long indexedCount = 0;
+        while (true) {
+            List<Article> articles = articleRepository.findAllAfter(lastArticleId, CHUNK_SIZE);
+            if (articles.isEmpty()) {
+                break;
+            }
+            articles.forEach(this::index);
+            indexedCount += articles.size();
+            lastArticleId = articles.getLast().getArticleId();
+            if (articles.size() < CHUNK_SIZE) {
+                break;
+            }
+        }
+        return indexedCount;
+    }
+
+    // 수정 시각 이후 변경된 게시글 반영 (논리 삭제된 게시글은 색인에서 제거)
+    private long applyModifiedArticles(LocalDateTime since) {
+        long appliedCount = 0;
+        LocalDateTime cursorModifiedAt = since;
+        Long cursorArticleId = 0L;
+        while (true) {
+            List<Article> articles = articleRepository.findAllModifiedSince(cursorModifiedAt, cursorArticleId, CHUNK_SIZE);
+            for (Article article : articles) {
+                if (article.isDeleted()) {
+                    articleSearchIndex.remove(article.getArticleId());
+                } else {
+                    index(article);
+                }
+            }
+            appliedCount += articles.size();
+            if (articles.size() < CHUNK_SIZE) {
+                return appliedCount;
+            }
+            cursorModifiedAt = articles.getLast().getModifiedAt();
+            cursorArticleId = articles.getLast().getArticleId();
+        }
+    }
+
+    private void index(Article article) {
+        articleSearchIndex.index(
+                article.getArticleId(), article.getBoardId(), article.getTitle(), article.getContent(), article.getVersion()
+        );
+    }
+}
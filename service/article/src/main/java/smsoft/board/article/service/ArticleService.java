@@ -1,24 +1,47 @@
 package smsoft.board.article.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import smsoft.board.article.entity.Article;
+import smsoft.board.article.entity.ArticleContentConverter;
 import smsoft.board.article.repository.ArticleRepository;
+import smsoft.board.article.service.request.ArticleBulkDeleteRequest;
 import smsoft.board.article.service.request.ArticleCreateRequest;
 import smsoft.board.article.service.request.ArticleUpdateRequest;
+import smsoft.board.article.service.response.ArticleBulkDeleteResponse;
 import smsoft.board.article.service.response.ArticlePageResponse;
 import smsoft.board.article.service.response.ArticleResponse;
 import smsoft.board.common.snowflake.Snowflake;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class ArticleService {
+    private static final Long EXPORT_CHUNK_SIZE = 1000L;
+    private static final int BULK_DELETE_CHUNK_SIZE = 1000;
+
     private final Snowflake snowflake = new Snowflake();
     private final ArticleRepository articleRepository;
+    private final ArticleContentConverter articleContentConverter;
+    private final ArticlePageCache articlePageCache;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleArchiveService articleArchiveService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
     public ArticleResponse create(ArticleCreateRequest request) {
@@ -31,29 +54,156 @@ public class ArticleService {
                         request.getWriterId()
                 )
         );
+        articlePageCache.invalidate(article.getBoardId());
+        TransactionCallbacks.afterCommit(() -> articleSearchIndex.index(
+                article.getArticleId(), article.getBoardId(), article.getTitle(), article.getContent(), article.getVersion()
+        ));
 
         return ArticleResponse.from(article);
     }
 
     @Transactional
     public ArticleResponse update(Long articleId, ArticleUpdateRequest request) {
-        Article article = articleRepository.findById(articleId).orElseThrow();
+        if (request.getVersion() != null) {
+            return updateWithVersion(articleId, request);
+        }
+
+        Optional<Article> found = articleRepository.findById(articleId).filter(article -> !article.isDeleted());
+        if (found.isEmpty()) {
+            // 보관된 게시글은 엔티티로 관리되지 않으므로 현재 버전 기준 조건부 UPDATE
+            Article archived = findArchived(articleId).orElseThrow();
+            return updateArchived(articleId, request, archived.getVersion());
+        }
+
+        Article article = found.get();
         article.update(request.getTitle(), request.getContent());
+        // 증가된 버전을 응답에 담기 위해 즉시 반영
+        articleRepository.flush();
+        articlePageCache.invalidate(article.getBoardId());
+        TransactionCallbacks.afterCommit(() -> articleSearchIndex.index(
+                article.getArticleId(), article.getBoardId(), article.getTitle(), article.getContent(), article.getVersion()
+        ));
+
+        return ArticleResponse.from(article);
+    }
+
+    // 수정 전 엔티티 조회 없이 버전 조건부 단일 UPDATE (다른 요청이 먼저 수정했다면 충돌)
+    // 응답/색인/캐시 무효화를 위해 수정 후 한 번 다시 읽으므로 왕복은 조회 + 더티 체킹 UPDATE와 같은 2회
+    private ArticleResponse updateWithVersion(Long articleId, ArticleUpdateRequest request) {
+        LocalDateTime modifiedAt = LocalDateTime.now();
+        int updatedCount = articleRepository.update(
+                articleId,
+                request.getTitle(),
+                articleContentConverter.convertToDatabaseColumn(request.getContent()),
+                modifiedAt,
+                request.getVersion()
+        );
+        if (updatedCount == 0) {
+            return updateArchived(articleId, request, request.getVersion());
+        }
+        // 같은 트랜잭션에서 방금 수정한 행을 다시 읽어 버전 없이 수정한 경우와 같은 전체 응답을 반환하고 커밋될 버전으로 색인
+        Article article = articleRepository.findById(articleId).orElseThrow();
+        articlePageCache.invalidate(article.getBoardId());
+        TransactionCallbacks.afterCommit(() -> articleSearchIndex.index(
+                articleId, article.getBoardId(), article.getTitle(), article.getContent(), article.getVersion()
+        ));
 
         return ArticleResponse.from(article);
     }
 
+    // 보관된 게시글 수정 (보관된 게시글은 목록 캐시/검색 대상이 아니므로 무효화 없음)
+    private ArticleResponse updateArchived(Long articleId, ArticleUpdateRequest request, Long version) {
+        LocalDateTime modifiedAt = LocalDateTime.now();
+        int updatedCount = articleArchiveService.isEnabled() ? articleRepository.updateArchived(
+                articleId,
+                request.getTitle(),
+                articleContentConverter.convertToDatabaseColumn(request.getContent()),
+                modifiedAt,
+                version
+        ) : 0;
+        if (updatedCount == 0) {
+            throw new OptimisticLockingFailureException(
+                    "게시글이 이미 수정되었거나 존재하지 않습니다. articleId=%s, version=%s".formatted(articleId, version)
+            );
+        }
+
+        return ArticleResponse.from(articleRepository.findArchivedById(articleId).orElseThrow());
+    }
+
+    @Transactional(readOnly = true)
     public ArticleResponse read(Long articleId) {
-        return ArticleResponse.from(articleRepository.findById(articleId).orElseThrow());
+        // 운영 테이블에 없으면 보관 테이블에서 조회 (보관 기준 변경 여부와 관계없이 항상 이어서 조회)
+        Article article = articleRepository.findById(articleId)
+                .filter(found -> !found.isDeleted())
+                .or(() -> findArchived(articleId))
+                .orElseThrow();
+
+        return ArticleResponse.from(article);
+    }
+
+    private Optional<Article> findArchived(Long articleId) {
+        if (!articleArchiveService.isEnabled()) {
+            return Optional.empty();
+        }
+        return articleRepository.findArchivedById(articleId).filter(found -> !found.isDeleted());
     }
 
     @Transactional
     public void delete(Long articleId) {
-        articleRepository.deleteById(articleId);
+        // 논리 삭제 (캐시 무효화를 위해 게시판 ID가 필요하므로 조회 후 표시, 물리 삭제는 ArticlePurgeService가 담당)
+        Optional<Article> found = articleRepository.findById(articleId).filter(article -> !article.isDeleted());
+        if (found.isEmpty()) {
+            if (articleArchiveService.isEnabled()) {
+                articleRepository.deleteArchivedAllByArticleIdIn(List.of(articleId));
+            }
+            return;
+        }
+
+        Article article = found.get();
+        article.delete();
+        articlePageCache.invalidate(article.getBoardId());
+        TransactionCallbacks.afterCommit(() -> articleSearchIndex.remove(articleId));
+    }
+
+    // 게시글 일괄 논리 삭제 (청크마다 커밋하여 즉시 목록에서 제외, 물리 삭제는 ArticlePurgeService가 담당)
+    public ArticleBulkDeleteResponse bulkDelete(ArticleBulkDeleteRequest request) {
+        List<Long> articleIds;
+        if (request.getArticleIds() != null && !request.getArticleIds().isEmpty()) {
+            articleIds = request.getArticleIds();
+        } else if (request.getWriterId() != null) {
+            articleIds = new ArrayList<>(articleRepository.findAllIdsByWriterId(request.getWriterId()));
+            if (articleArchiveService.isEnabled()) {
+                articleIds.addAll(articleRepository.findAllArchivedIdsByWriterId(request.getWriterId()));
+            }
+        } else {
+            articleIds = List.of();
+        }
+
+        long deletedCount = 0;
+        for (int from = 0; from < articleIds.size(); from += BULK_DELETE_CHUNK_SIZE) {
+            List<Long> chunk = articleIds.subList(from, Math.min(from + BULK_DELETE_CHUNK_SIZE, articleIds.size()));
+            deletedCount += transactionTemplate.execute(status -> softDelete(chunk));
+        }
+
+        return ArticleBulkDeleteResponse.of(deletedCount);
+    }
+
+    private int softDelete(List<Long> articleIds) {
+        List<Long> boardIds = articleRepository.findAllBoardIdsByArticleIdIn(articleIds);
+        int deletedCount = articleRepository.softDeleteAllByArticleIdIn(articleIds, LocalDateTime.now());
+        boardIds.forEach(articlePageCache::invalidate);
+        TransactionCallbacks.afterCommit(() -> articleIds.forEach(articleSearchIndex::remove));
+
+        // 보관된 게시글은 바로 물리 삭제 (같은 트랜잭션이므로 청크 처리 중 보관된 게시글도 누락되지 않음)
+        if (articleArchiveService.isEnabled()) {
+            deletedCount += articleRepository.deleteArchivedAllByArticleIdIn(articleIds);
+        }
+        return deletedCount;
     }
 
+    // 캐시 적중 시 커넥션을 점유하지 않도록 트랜잭션 없이 조회 (각 쿼리는 읽기 전용 트랜잭션으로 실행)
     public ArticlePageResponse readAll(Long boardId, Long page, Long pageSize) {
-        return ArticlePageResponse.of(
+        return articlePageCache.get(boardId, page, pageSize, () -> ArticlePageResponse.of(
                 articleRepository.findAll(boardId, pageSize, (page - 1) * pageSize).stream()
                         .map(ArticleResponse::from)
                         .toList(),
@@ -62,14 +212,94 @@ public class ArticleService {
                         boardId,
                         PageLimitCalculator.calculatePageLimit(page, pageSize, 10L)
                 )
-        );
+        ));
     }
 
+    public Map<String, Double> readAllCacheHitRatios() {
+        return articlePageCache.hitRatioByPageDepth();
+    }
+
+    @Transactional(readOnly = true)
     public List<ArticleResponse> readAllInfiniteScroll(Long boardId, Long pageSize, Long lastArticleId) {
         List<Article> articles = lastArticleId == null ?
                 articleRepository.findAllInfiniteScroll(boardId, pageSize) :
                 articleRepository.findAllInfiniteScroll(boardId, pageSize, lastArticleId);
 
+        // 운영 테이블 결과가 부족하면 보관 경계를 넘은 것이므로 보관 테이블에서 이어서 조회
+        if (articleArchiveService.isEnabled() && articles.size() < pageSize) {
+            Long archiveLastArticleId = articles.isEmpty() ?
+                    (lastArticleId == null ? Long.MAX_VALUE : lastArticleId) :
+                    articles.getLast().getArticleId();
+            articles = new ArrayList<>(articles);
+            articles.addAll(articleRepository.findAllArchivedInfiniteScroll(
+                    boardId, pageSize - articles.size(), archiveLastArticleId
+            ));
+        }
+
         return articles.stream().map(ArticleResponse::from).toList();
     }
+
+    // 인메모리 역색인으로 검색 후 게시글 조회 (최신순, lastArticleId 기준 무한 스크롤)
+    @Transactional(readOnly = true)
+    public List<ArticleResponse> search(Long boardId, String query, Long pageSize, Long lastArticleId) {
+        long[] articleIds = articleSearchIndex.search(boardId, query, pageSize.intValue(), lastArticleId);
+        Map<Long, Article> articles = articleRepository.findAllById(Arrays.stream(articleIds).boxed().toList()).stream()
+                .collect(Collectors.toMap(Article::getArticleId, Function.identity()));
+        removeStalePostings(articleIds, articles);
+
+        return Arrays.stream(articleIds)
+                .mapToObj(articles::get)
+                .filter(article -> article != null && !article.isDeleted())
+                .map(ArticleResponse::from)
+                .toList();
+    }
+
+    // 다른 인스턴스에서 삭제/보관된 게시글의 포스팅 정리 (삭제/보관은 되돌려지지 않으므로 확인된 경우에만 제거)
+    private void removeStalePostings(long[] articleIds, Map<Long, Article> articles) {
+        List<Long> missingIds = new ArrayList<>();
+        for (long articleId : articleIds) {
+            Article article = articles.get(articleId);
+            if (article == null) {
+                missingIds.add(articleId);
+            } else if (article.isDeleted()) {
+                articleSearchIndex.remove(articleId);
+            }
+        }
+        if (!missingIds.isEmpty() && articleArchiveService.isEnabled()) {
+            articleRepository.findAllArchivedIdsByArticleIdIn(missingIds).forEach(articleSearchIndex::remove);
+        }
+    }
+
+    // 게시판 전체 게시글을 NDJSON으로 스트리밍 (article_id 기준 keyset 커서로 청크 단위 조회하여 메모리 사용량 고정)
+    public void export(Long boardId, OutputStream outputStream) throws IOException {
+        Long lastArticleId = null;
+        boolean archived = false;
+        while (true) {
+            List<Article> articles = archived ?
+                    articleRepository.findAllArchivedInfiniteScroll(boardId, EXPORT_CHUNK_SIZE, lastArticleId) :
+                    lastArticleId == null ?
+                            articleRepository.findAllInfiniteScroll(boardId, EXPORT_CHUNK_SIZE) :
+                            articleRepository.findAllInfiniteScroll(boardId, EXPORT_CHUNK_SIZE, lastArticleId);
+
+            for (Article article : articles) {
+                outputStream.write(objectMapper.writeValueAsBytes(ArticleResponse.from(article)));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+
+            if (!articles.isEmpty()) {
+                lastArticleId = articles.getLast().getArticleId();
+            }
+            if (articles.size() < EXPORT_CHUNK_SIZE) {
+                // 운영 테이블을 모두 내보냈으면 보관 경계를 넘은 것이므로 보관 테이블에서 이어서 조회
+                if (archived || !articleArchiveService.isEnabled()) {
+                    return;
+                }
+                archived = true;
+                if (lastArticleId == null) {
+                    lastArticleId = Long.MAX_VALUE;
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,73 @@
+package smsoft.board.article.service;
+
+import java.util.Arrays;
+
+/**
+ * 게시글 ID(Snowflake) 오름차순 정렬된 primitive long 배열 기반 포스팅 리스트.
+ * <p>
+ * Snowflake ID는 시간순으로 증가하므로 신규 게시글은 대부분 배열 끝에 추가됩니다.
+ * 동기화는 호출하는 쪽(ArticleSearchIndex)에서 담당합니다.
+ * </p>
+ */
+final class PostingList {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+
+    void add(long id) {
+        if (size == 0 || ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return;
+        }
+        int insertionPoint = -index - 1;
+        ensureCapacity();
+        System.arraycopy(ids, insertionPoint, ids, insertionPoint + 1, size - insertionPoint);
+        ids[insertionPoint] = id;
+        size++;
+    }
+
+    boolean remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+
+        // 삭제가 누적된 경우 배열 축소
+        if (ids.length > INITIAL_CAPACITY && size < ids.length / 4) {
+            ids = Arrays.copyOf(ids, Math.max(ids.length / 2, INITIAL_CAPACITY));
+        }
+        return true;
+    }
+
+    // [0, toIndex) 범위 이진 탐색 (Arrays.binarySearch와 동일한 반환 규약)
+    int binarySearch(long id, int toIndex) {
+        return Arrays.binarySearch(ids, 0, toIndex, id);
+    }
+
+    long get(int index) {
+        return ids[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+    }
+}
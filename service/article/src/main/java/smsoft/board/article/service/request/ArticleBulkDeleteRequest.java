@@ -0,0 +1,14 @@
+package smsoft.board.article.service.request;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@ToString
+@Getter
+public class ArticleBulkDeleteRequest {
+    // articleIds가 지정되면 해당 게시글을, 없으면 writerId의 모든 게시글을 삭제
+    private List<Long> articleIds;
+    private Long writerId;
+}
@@ -6,6 +6,9 @@ import lombok.ToString;
 @ToString
 @Getter
 public class ArticleUpdateRequest {
+    // null인 필드는 기존 값 유지 (버전 지정 여부와 관계없이 응답은 수정된 게시글 전체)
     private String title;
     private String content;
+    // 클라이언트가 마지막으로 조회한 버전 (지정 시 조회 없이 단일 UPDATE로 낙관적 수정)
+    private Long version;
 }
@@ -0,0 +1,17 @@
+package smsoft.board.article.service.response;
+
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+public class ArticleBulkDeleteResponse {
+    private Long deletedCount;
+
+    public static ArticleBulkDeleteResponse of(Long deletedCount) {
+        ArticleBulkDeleteResponse response = new ArticleBulkDeleteResponse();
+        response.deletedCount = deletedCount;
+
+        return response;
+    }
+}
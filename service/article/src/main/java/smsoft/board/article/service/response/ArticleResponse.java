@@ -16,15 +16,18 @@ public class ArticleResponse {
     private Long writerId;
     private LocalDateTime createdAt;
     private LocalDateTime modifiedAt;
+    private Long version;
 
     public static ArticleResponse from(Article article) {
         ArticleResponse articleResponse = new ArticleResponse();
         articleResponse.articleId = article.getArticleId();
         articleResponse.title = article.getTitle();
         articleResponse.content = article.getContent();
+        articleResponse.boardId = article.getBoardId();
         articleResponse.writerId = article.getWriterId();
         articleResponse.createdAt = article.getCreatedAt();
         articleResponse.modifiedAt = article.getModifiedAt();
+        articleResponse.version = article.getVersion();
 
         return articleResponse;
     }
@@ -0,0 +1,141 @@
+package smsoft.board.article.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("게시판별 동시성 제한 테스트")
+class BoardAdmissionControllerTest {
+    static final int READ_LIMIT = 4;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    BoardAdmissionController admissionController = new BoardAdmissionController(createProperties(), meterRegistry);
+
+    @Test
+    @DisplayName("요청이 몰린 게시판은 즉시 거절되고 다른 게시판 요청은 영향 없이 처리되어야 한다")
+    void isolationTest() throws InterruptedException {
+        Long noisyBoardId = 1L;
+        Long quietBoardId = 2L;
+        ExecutorService executorService = Executors.newFixedThreadPool(READ_LIMIT);
+        CountDownLatch started = new CountDownLatch(READ_LIMIT);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 시끄러운 게시판의 READ 한도를 모두 점유
+        for (int i = 0; i < READ_LIMIT; i++) {
+            executorService.execute(() -> admissionController.execute(noisyBoardId, EndpointClass.READ, () -> {
+                started.countDown();
+                await(release);
+            }));
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(AdmissionRejectedException.class,
+                () -> admissionController.execute(noisyBoardId, EndpointClass.READ, () -> "rejected"));
+        assertEquals("quiet", admissionController.execute(quietBoardId, EndpointClass.READ, () -> "quiet"));
+        // 같은 게시판이라도 다른 엔드포인트 구분은 별도 한도
+        assertEquals("write", admissionController.execute(noisyBoardId, EndpointClass.WRITE, () -> "write"));
+
+        assertEquals(READ_LIMIT, meterRegistry.get("article.admission.in-flight")
+                .tags("endpoint", "READ").gauge().value());
+        assertEquals(1, meterRegistry.get("article.admission.rejected")
+                .tags("endpoint", "READ").counter().count());
+
+        release.countDown();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals("admitted", admissionController.execute(noisyBoardId, EndpointClass.READ, () -> "admitted"));
+    }
+
+    @Test
+    @DisplayName("요청 스레드 밖에서 이어지는 작업은 허가를 반환할 때까지 한도를 점유하고, 반환은 한 번만 반영되어야 한다")
+    void permitTest() {
+        List<BoardAdmissionController.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < READ_LIMIT; i++) {
+            permits.add(admissionController.acquire(1L, EndpointClass.READ));
+        }
+
+        assertThrows(AdmissionRejectedException.class, () -> admissionController.acquire(1L, EndpointClass.READ));
+
+        permits.get(0).release();
+        permits.get(0).release();
+        assertEquals(READ_LIMIT - 1, meterRegistry.get("article.admission.in-flight")
+                .tags("endpoint", "READ").gauge().value());
+        assertNotNull(admissionController.acquire(1L, EndpointClass.READ));
+    }
+
+    @Test
+    @DisplayName("응답 시간이 기준을 넘으면 한도가 줄고, 기준 이하이면 다시 늘어나야 한다")
+    void aimdTest() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(10, 2, 20, Duration.ofMillis(100).toNanos());
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(Duration.ofSeconds(1).toNanos());
+        }
+        int decreased = limiter.getLimit();
+        assertTrue(decreased < 10);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(Duration.ofMillis(10).toNanos());
+        }
+        assertTrue(limiter.getLimit() > decreased);
+    }
+
+    @Test
+    @DisplayName("함께 처리 중이던 요청들이 연달아 느리게 끝나도 한도는 한 번만 줄어야 한다")
+    void backoffOncePerWindowTest() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(10, 2, 20, Duration.ofMillis(100).toNanos());
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        for (int i = 0; i < 10; i++) {
+            limiter.release(Duration.ofSeconds(1).toNanos());
+        }
+
+        assertEquals(9, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("클라이언트가 보낸 게시판 ID 수와 관계없이 제한기 수와 메트릭 수는 상한을 넘지 않아야 한다")
+    void boundedCardinalityTest() {
+        AdmissionProperties properties = createProperties();
+        properties.setMaxLimiters(100);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BoardAdmissionController controller = new BoardAdmissionController(properties, registry);
+        int meterCount = registry.getMeters().size();
+
+        for (long boardId = 1; boardId <= 10_000; boardId++) {
+            controller.execute(boardId, EndpointClass.READ, () -> "ok");
+        }
+
+        assertEquals(100, controller.size());
+        assertEquals(meterCount, registry.getMeters().size());
+        assertEquals(100, registry.get("article.admission.limiters").tags("endpoint", "READ").gauge().value());
+    }
+
+    AdmissionProperties createProperties() {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setRead(new AdmissionProperties.Limit(READ_LIMIT, READ_LIMIT, READ_LIMIT, Duration.ofSeconds(10)));
+        return properties;
+    }
+
+    void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
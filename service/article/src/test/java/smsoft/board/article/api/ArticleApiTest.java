@@ -1,18 +1,26 @@
 package smsoft.board.article.api;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.web.client.RestClient;
 import smsoft.board.article.service.response.ArticlePageResponse;
 import smsoft.board.article.service.response.ArticleResponse;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.*;
+
 public class ArticleApiTest {
     RestClient restClient = RestClient.create("http://localhost:8000");
+    ObjectMapper objectMapper = new ObjectMapper();
 
     @Test
     @DisplayName("게시글 생성 API 테스트")
@@ -47,10 +55,41 @@ public class ArticleApiTest {
     void update(Long articleId) {
         restClient.put()
                 .uri("v1/articles/{articleId}", articleId)
-                .body(new ArticleUpdateRequest("제목5678", "내용입니다222"))
+                .body(new ArticleUpdateRequest("제목5678", "내용입니다222", null))
                 .retrieve();
     }
 
+    @Test
+    void updateWithVersionTest() {
+        ArticleResponse article = create(new ArticleCreateRequest("제목1234", "내용입니다", 1L, 1L));
+
+        ArticleResponse updated = restClient.put()
+                .uri("v1/articles/{articleId}", article.getArticleId())
+                .body(new ArticleUpdateRequest("제목5678", null, article.getVersion()))
+                .retrieve()
+                .body(ArticleResponse.class);
+
+        // 버전이 증가하고, 버전 없이 수정한 경우와 같은 전체 응답이 반환되며, 보내지 않은 본문은 유지되어야 한다
+        assertEquals(article.getVersion() + 1, updated.getVersion());
+        assertEquals("제목5678", updated.getTitle());
+        assertEquals("내용입니다", updated.getContent());
+        assertEquals(article.getBoardId(), updated.getBoardId());
+        assertEquals(article.getWriterId(), updated.getWriterId());
+        assertNotNull(updated.getCreatedAt());
+
+        // 이전 버전으로 다시 수정하면 409 Conflict
+        HttpStatusCode status = restClient.put()
+                .uri("v1/articles/{articleId}", article.getArticleId())
+                .body(new ArticleUpdateRequest("제목5678", "내용입니다444", article.getVersion()))
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, (request, response) -> {
+                })
+                .toBodilessEntity()
+                .getStatusCode();
+        assertEquals(HttpStatus.CONFLICT, status);
+        assertEquals(updated.getVersion(), read(article.getArticleId()).getVersion());
+    }
+
     ArticleResponse read(Long articleId) {
         return restClient.get()
                 .uri("/v1/articles/{articleId}", articleId)
@@ -105,6 +144,69 @@ public class ArticleApiTest {
         }
     }
 
+    @Test
+    void bulkDeleteTest() {
+        // 다른 데이터에 영향이 없도록 새 게시판에 직접 만든 게시글만 삭제
+        Long boardId = System.currentTimeMillis();
+        List<Long> articleIds = List.of(
+                create(new ArticleCreateRequest("제목1", "내용1", 1L, boardId)).getArticleId(),
+                create(new ArticleCreateRequest("제목2", "내용2", 1L, boardId)).getArticleId(),
+                create(new ArticleCreateRequest("제목3", "내용3", 1L, boardId)).getArticleId()
+        );
+
+        JsonNode response = restClient.post()
+                .uri("/v1/articles/bulk-delete")
+                .body(new ArticleBulkDeleteRequest(articleIds.subList(0, 2), null))
+                .retrieve()
+                .body(JsonNode.class);
+        assertEquals(2, response.get("deletedCount").asLong());
+
+        // 목록, 게시글 수, 무한 스크롤에서 논리 삭제된 게시글은 즉시 제외되어야 한다
+        ArticlePageResponse page = restClient.get()
+                .uri("/v1/articles?boardId={boardId}&page=1&pageSize=10", boardId)
+                .retrieve()
+                .body(ArticlePageResponse.class);
+        assertEquals(1L, page.getArticleCount());
+        assertEquals(List.of(articleIds.get(2)), page.getArticles().stream().map(ArticleResponse::getArticleId).toList());
+
+        List<ArticleResponse> scrolled = restClient.get()
+                .uri("/v1/articles/infinite-scroll?boardId={boardId}&pageSize=10", boardId)
+                .retrieve()
+                .body(new ParameterizedTypeReference<List<ArticleResponse>>() {
+                });
+        assertEquals(List.of(articleIds.get(2)), scrolled.stream().map(ArticleResponse::getArticleId).toList());
+    }
+
+    @Test
+    void exportTest() {
+        // 응답 전체를 메모리에 담으므로 대량 데이터 게시판이 아닌 새 게시판에 직접 만든 게시글만 내보냄
+        Long boardId = System.currentTimeMillis();
+        List<Long> createdIds = List.of(
+                create(new ArticleCreateRequest("제목1", "내용1", 1L, boardId)).getArticleId(),
+                create(new ArticleCreateRequest("제목2", "내용2", 1L, boardId)).getArticleId(),
+                create(new ArticleCreateRequest("제목3", "내용3", 1L, boardId)).getArticleId()
+        );
+
+        String body = restClient.get()
+                .uri("/v1/boards/{boardId}/articles/export", boardId)
+                .retrieve()
+                .body(String.class);
+
+        // 한 줄에 게시글 하나씩, article_id 내림차순으로 빠짐없이 이어져야 한다
+        List<Long> articleIds = body.lines()
+                .map(line -> readJson(line).get("articleId").asLong())
+                .toList();
+        assertEquals(createdIds.reversed(), articleIds);
+    }
+
+    JsonNode readJson(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     @AllArgsConstructor
     @Getter
     static class ArticleCreateRequest {
@@ -119,5 +221,13 @@ public class ArticleApiTest {
     static class ArticleUpdateRequest {
         private String title;
         private String content;
+        private Long version;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    static class ArticleBulkDeleteRequest {
+        private List<Long> articleIds;
+        private Long writerId;
     }
 }
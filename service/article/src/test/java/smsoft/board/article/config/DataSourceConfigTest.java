@@ -0,0 +1,56 @@
+package smsoft.board.article.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("프라이머리/레플리카 데이터소스 설정 테스트")
+class DataSourceConfigTest {
+    ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(TestConfig.class)
+            .withPropertyValues(
+                    "spring.datasource.driver-class-name=org.h2.Driver",
+                    "spring.datasource.url=jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1",
+                    "spring.datasource.username=sa",
+                    "spring.datasource.password=",
+                    "article.datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1"
+            );
+
+    @Test
+    @DisplayName("프라이머리/레플리카 커넥션 풀 설정이 각각의 hikari 설정에서 바인딩되어야 한다")
+    void bindHikariPropertiesTest() {
+        contextRunner
+                .withPropertyValues(
+                        "spring.datasource.hikari.maximum-pool-size=7",
+                        "spring.datasource.hikari.connection-timeout=1500",
+                        "article.datasource.replica.hikari.maximum-pool-size=13"
+                )
+                .run(context -> {
+                    HikariDataSource primary = context.getBean("primaryDataSource", HikariDataSource.class);
+                    HikariDataSource replica = context.getBean("replicaDataSource", HikariDataSource.class);
+
+                    assertEquals(7, primary.getMaximumPoolSize());
+                    assertEquals(1500L, primary.getConnectionTimeout());
+                    assertEquals("article-primary-pool", primary.getPoolName());
+
+                    assertEquals(13, replica.getMaximumPoolSize());
+                    // 레플리카 풀은 프라이머리 설정을 상속하지 않음
+                    assertNotEquals(1500L, replica.getConnectionTimeout());
+                    assertEquals("article-replica-pool", replica.getPoolName());
+                    assertTrue(replica.isReadOnly());
+                });
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(DataSourceProperties.class)
+    @Import(DataSourceConfig.class)
+    static class TestConfig {
+    }
+}
@@ -0,0 +1,89 @@
+package smsoft.board.article.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("프라이머리/레플리카 라우팅 테스트")
+class ReplicationRoutingDataSourceTest {
+    JdbcTemplate jdbcTemplate;
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 프라이머리/레플리카 역할을 하는 두 개의 로컬 데이터베이스
+        DataSource primary = createDatabase("primary");
+        DataSource replica = createDatabase("replica");
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.<Object, Object>of(
+                ReplicationRoutingDataSource.PRIMARY, primary,
+                ReplicationRoutingDataSource.REPLICA, replica
+        ));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        PrimaryPinContext.clear();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카로 라우팅되어야 한다")
+    void readOnlyTransactionTest() {
+        transactionTemplate.setReadOnly(true);
+
+        assertEquals("replica", transactionTemplate.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖의 쿼리는 프라이머리로 라우팅되어야 한다")
+    void writeTransactionTest() {
+        assertEquals("primary", transactionTemplate.execute(status -> currentDatabase()));
+        assertEquals("primary", currentDatabase());
+    }
+
+    @Test
+    @DisplayName("프라이머리로 고정된 요청은 읽기 전용 트랜잭션도 프라이머리로 라우팅되어야 한다")
+    void pinnedReadOnlyTransactionTest() {
+        transactionTemplate.setReadOnly(true);
+        PrimaryPinContext.pin();
+
+        assertEquals("primary", transactionTemplate.execute(status -> currentDatabase()));
+
+        PrimaryPinContext.clear();
+        assertEquals("replica", transactionTemplate.execute(status -> currentDatabase()));
+    }
+
+    String currentDatabase() {
+        return jdbcTemplate.queryForObject("select name from database_role", String.class);
+    }
+
+    DataSource createDatabase(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", ""
+        );
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("drop table if exists database_role");
+        template.execute("create table database_role (name varchar(20) not null)");
+        template.update("insert into database_role (name) values (?)", name);
+
+        return dataSource;
+    }
+}
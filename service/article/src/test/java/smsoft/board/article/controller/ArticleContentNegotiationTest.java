@@ -0,0 +1,126 @@
+package smsoft.board.article.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import smsoft.board.article.admission.BoardAdmissionController;
+import smsoft.board.article.config.WebConfig;
+import smsoft.board.article.entity.Article;
+import smsoft.board.article.service.ArticleBoardIdResolver;
+import smsoft.board.article.service.ArticleService;
+import smsoft.board.article.service.response.ArticlePageResponse;
+import smsoft.board.article.service.response.ArticleResponse;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("게시글 목록 응답 콘텐츠 협상 테스트")
+@WebMvcTest(ArticleController.class)
+@Import(WebConfig.class)
+class ArticleContentNegotiationTest {
+    static final MediaType APPLICATION_CBOR = MediaType.parseMediaType("application/cbor");
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    MappingJackson2CborHttpMessageConverter cborHttpMessageConverter;
+
+    @MockBean
+    ArticleService articleService;
+    @MockBean
+    ArticleBoardIdResolver articleBoardIdResolver;
+    @MockBean
+    BoardAdmissionController boardAdmissionController;
+
+    List<ArticleResponse> articles = List.of(
+            createResponse(256395380272410625L, "게시글 제목입니다 2"),
+            createResponse(256395380272410624L, "게시글 제목입니다 1")
+    );
+
+    @BeforeEach
+    void setUp() {
+        when(boardAdmissionController.execute(any(), any(), any(Supplier.class)))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
+        when(articleService.readAll(1L, 1L, 30L)).thenReturn(ArticlePageResponse.of(articles, 2L));
+        when(articleService.readAllInfiniteScroll(1L, 30L, null)).thenReturn(articles);
+    }
+
+    @Test
+    @DisplayName("Accept: application/cbor 목록 요청은 CBOR 변환기의 ObjectMapper로 복원되는 CBOR로 응답해야 한다")
+    void readAllCborTest() throws Exception {
+        MvcResult result = mockMvc.perform(readAll().accept(APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_CBOR))
+                .andReturn();
+
+        ArticlePageResponse decoded = cborHttpMessageConverter.getObjectMapper()
+                .readValue(result.getResponse().getContentAsByteArray(), ArticlePageResponse.class);
+        assertEquals(2L, decoded.getArticleCount());
+        assertEquals(articles.toString(), decoded.getArticles().toString());
+    }
+
+    @Test
+    @DisplayName("Accept: application/cbor 무한 스크롤 요청은 CBOR 변환기의 ObjectMapper로 복원되는 CBOR로 응답해야 한다")
+    void readInfiniteScrollCborTest() throws Exception {
+        MvcResult result = mockMvc.perform(readInfiniteScroll().accept(APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_CBOR))
+                .andReturn();
+
+        List<ArticleResponse> decoded = cborHttpMessageConverter.getObjectMapper()
+                .readValue(result.getResponse().getContentAsByteArray(), new TypeReference<List<ArticleResponse>>() {
+                });
+        assertEquals(articles.toString(), decoded.toString());
+    }
+
+    @Test
+    @DisplayName("Accept 헤더가 없거나 */* 이면 기존과 같이 JSON으로 응답해야 한다")
+    void defaultJsonTest() throws Exception {
+        mockMvc.perform(readAll())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        mockMvc.perform(readAll().accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        mockMvc.perform(readInfiniteScroll())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        mockMvc.perform(readInfiniteScroll().accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    MockHttpServletRequestBuilder readAll() {
+        return get("/v1/articles")
+                .param("boardId", "1")
+                .param("page", "1")
+                .param("pageSize", "30");
+    }
+
+    MockHttpServletRequestBuilder readInfiniteScroll() {
+        return get("/v1/articles/infinite-scroll")
+                .param("boardId", "1")
+                .param("pageSize", "30");
+    }
+
+    ArticleResponse createResponse(Long articleId, String title) {
+        return ArticleResponse.from(Article.create(articleId, title, "게시글 내용입니다.", 1L, 1L));
+    }
+}
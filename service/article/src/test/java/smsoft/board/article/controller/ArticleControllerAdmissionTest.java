@@ -0,0 +1,77 @@
+package smsoft.board.article.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import smsoft.board.article.admission.AdmissionRejectedException;
+import smsoft.board.article.admission.BoardAdmissionController;
+import smsoft.board.article.admission.EndpointClass;
+import smsoft.board.article.service.ArticleBoardIdResolver;
+import smsoft.board.article.service.ArticleService;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("게시글 API 동시성 제한 적용 테스트")
+class ArticleControllerAdmissionTest {
+    ArticleService articleService = mock(ArticleService.class);
+    ArticleBoardIdResolver articleBoardIdResolver = mock(ArticleBoardIdResolver.class);
+    BoardAdmissionController boardAdmissionController = mock(BoardAdmissionController.class);
+    ArticleController articleController = new ArticleController(
+            articleService, articleBoardIdResolver, boardAdmissionController
+    );
+
+    @Test
+    @DisplayName("캐시에 없는 게시글의 게시판 조회 쿼리는 게시판 구분 없는 공용 한도 안에서 수행되어야 한다")
+    void resolveUnderSharedLimitTest() {
+        when(boardAdmissionController.execute(any(), any(), any(Supplier.class)))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
+        when(articleBoardIdResolver.resolve(1L)).thenReturn(10L);
+
+        articleController.read(1L);
+
+        InOrder inOrder = inOrder(boardAdmissionController, articleBoardIdResolver, articleService);
+        inOrder.verify(boardAdmissionController).execute(isNull(), eq(EndpointClass.READ), any(Supplier.class));
+        inOrder.verify(articleBoardIdResolver).resolve(1L);
+        inOrder.verify(boardAdmissionController).execute(eq(10L), eq(EndpointClass.READ), any(Supplier.class));
+        inOrder.verify(articleService).read(1L);
+    }
+
+    @Test
+    @DisplayName("공용 한도를 넘으면 게시판 조회 쿼리 없이 거절되어야 한다")
+    void rejectBeforeResolveTest() {
+        when(boardAdmissionController.execute(isNull(), eq(EndpointClass.READ), any(Supplier.class)))
+                .thenThrow(new AdmissionRejectedException(null, EndpointClass.READ));
+
+        assertThrows(AdmissionRejectedException.class, () -> articleController.read(1L));
+
+        verify(articleBoardIdResolver, never()).resolve(any());
+        verifyNoInteractions(articleService);
+    }
+
+    @Test
+    @DisplayName("캐시된 게시판 ID는 공용 한도를 거치지 않아야 한다")
+    void cachedBoardIdTest() {
+        when(articleBoardIdResolver.findCached(1L)).thenReturn(10L);
+
+        articleController.read(1L);
+
+        verify(boardAdmissionController).execute(eq(10L), eq(EndpointClass.READ), any(Supplier.class));
+        verify(boardAdmissionController, never()).execute(isNull(), any(), any(Supplier.class));
+        verify(articleBoardIdResolver, never()).resolve(any());
+    }
+
+    @Test
+    @DisplayName("export 한도를 넘으면 스트리밍을 시작하기 전에 거절되어야 한다")
+    void exportRejectedTest() {
+        when(boardAdmissionController.acquire(1L, EndpointClass.DEEP_PAGE))
+                .thenThrow(new AdmissionRejectedException(1L, EndpointClass.DEEP_PAGE));
+
+        assertThrows(AdmissionRejectedException.class, () -> articleController.export(1L));
+
+        verifyNoInteractions(articleService);
+    }
+}
@@ -0,0 +1,87 @@
+package smsoft.board.article.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.client.RestClient;
+import smsoft.board.article.admission.BoardAdmissionController;
+import smsoft.board.article.admission.EndpointClass;
+import smsoft.board.article.config.WebConfig;
+import smsoft.board.article.service.ArticleBoardIdResolver;
+import smsoft.board.article.service.ArticleService;
+
+import java.io.OutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("게시판 export 비동기 타임아웃 테스트")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        classes = ArticleExportTimeoutTest.TestConfig.class,
+        properties = {
+                // 서블릿 컨테이너 기본 타임아웃을 짧게 흉내 (export 타임아웃 설정이 이를 덮어써야 함)
+                "spring.mvc.async.request-timeout=1s",
+                "article.export.timeout=0"
+        }
+)
+class ArticleExportTimeoutTest {
+    static final int LINE_COUNT = 3;
+    static final long LINE_INTERVAL_MILLIS = 1000L;
+
+    @LocalServerPort
+    int port;
+
+    @MockBean
+    ArticleService articleService;
+    @MockBean
+    ArticleBoardIdResolver articleBoardIdResolver;
+    @MockBean
+    BoardAdmissionController boardAdmissionController;
+
+    @Test
+    @DisplayName("기본 타임아웃보다 오래 걸리는 export도 끝까지 스트리밍되어야 한다")
+    void exportLongerThanDefaultTimeoutTest() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            for (int i = 0; i < LINE_COUNT; i++) {
+                outputStream.write("{\"articleId\":%d}\n".formatted(i).getBytes());
+                outputStream.flush();
+                Thread.sleep(LINE_INTERVAL_MILLIS);
+            }
+            return null;
+        }).when(articleService).export(eq(1L), any());
+        BoardAdmissionController.Permit permit = mock(BoardAdmissionController.Permit.class);
+        when(boardAdmissionController.acquire(1L, EndpointClass.DEEP_PAGE)).thenReturn(permit);
+
+        String body = RestClient.create("http://localhost:" + port).get()
+                .uri("/v1/boards/{boardId}/articles/export", 1L)
+                .retrieve()
+                .body(String.class);
+
+        assertNotNull(body);
+        assertEquals(LINE_COUNT, body.lines().count());
+        // 스트리밍이 끝난 뒤에 export 한도를 반환
+        verify(permit, timeout(1000)).release();
+    }
+
+    @Configuration
+    @EnableAutoConfiguration(exclude = {
+            DataSourceAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            JpaRepositoriesAutoConfiguration.class
+    })
+    @Import({ArticleController.class, WebConfig.class})
+    static class TestConfig {
+    }
+}
@@ -0,0 +1,87 @@
+package smsoft.board.article.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArticleContentConverterTest {
+    ArticleContentConverter converter = new ArticleContentConverter(true, 100);
+
+    @Test
+    @DisplayName("임계값 미만의 본문은 원문 그대로 저장되어야 한다")
+    void shortContentTest() {
+        String content = "짧은 내용입니다";
+
+        assertEquals(content, converter.convertToDatabaseColumn(content));
+        assertEquals(content, converter.convertToEntityAttribute(content));
+    }
+
+    @Test
+    @DisplayName("임계값 이상의 본문은 압축되어 저장되고 조회 시 복원되어야 한다")
+    void compressTest() {
+        String content = "게시글 내용입니다. ".repeat(100);
+
+        String column = converter.convertToDatabaseColumn(content);
+
+        assertTrue(converter.isCompressed(column));
+        assertTrue(column.length() < content.length());
+        assertEquals(content, converter.convertToEntityAttribute(column));
+    }
+
+    @Test
+    @DisplayName("압축 비활성화 시 본문은 원문 그대로 저장되지만 기존 압축 데이터는 복원되어야 한다")
+    void disabledTest() {
+        String content = "게시글 내용입니다. ".repeat(100);
+        String column = converter.convertToDatabaseColumn(content);
+        ArticleContentConverter disabled = new ArticleContentConverter(false, 100);
+
+        assertEquals(content, disabled.convertToDatabaseColumn(content));
+        assertEquals(content, disabled.convertToEntityAttribute(column));
+    }
+
+    @Test
+    @DisplayName("압축 접두어로 시작하는 원문도 손상 없이 복원되어야 한다")
+    void prefixedContentTest() {
+        String content = ArticleContentConverter.COMPRESSED_PREFIX + "원문";
+
+        assertEquals(content, converter.convertToEntityAttribute(converter.convertToDatabaseColumn(content)));
+    }
+
+    @Test
+    @DisplayName("압축이 잘 되지 않는 한글 본문은 문자 수가 늘어나므로 원문 그대로 저장되어야 한다")
+    void multibyteLowRedundancyContentTest() {
+        for (int length : new int[]{1500, ArticleContentConverter.COLUMN_LENGTH}) {
+            String content = randomHangul(length);
+
+            String column = converter.convertToDatabaseColumn(content);
+
+            assertEquals(content, column);
+            assertTrue(column.length() <= ArticleContentConverter.COLUMN_LENGTH);
+        }
+    }
+
+    @Test
+    @DisplayName("컬럼 길이에 가까운 반복적인 한글 본문은 압축되어 컬럼 길이 이내로 저장되어야 한다")
+    void multibyteRedundantContentTest() {
+        String content = "게시글 내용입니다. ".repeat(ArticleContentConverter.COLUMN_LENGTH / 11);
+
+        String column = converter.convertToDatabaseColumn(content);
+
+        assertTrue(converter.isCompressed(column));
+        assertTrue(column.length() < content.length());
+        assertTrue(column.length() <= ArticleContentConverter.COLUMN_LENGTH);
+        assertEquals(content, converter.convertToEntityAttribute(column));
+    }
+
+    String randomHangul(int length) {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('가' + random.nextInt('힣' - '가' + 1)));
+        }
+        return builder.toString();
+    }
+}
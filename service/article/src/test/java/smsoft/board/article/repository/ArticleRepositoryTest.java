@@ -1,18 +1,32 @@
 package smsoft.board.article.repository;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
 import smsoft.board.article.entity.Article;
+import smsoft.board.common.snowflake.Snowflake;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 @Slf4j
 @SpringBootTest
 class ArticleRepositoryTest {
     @Autowired
     ArticleRepository articleRepository;
+    @PersistenceContext
+    EntityManager entityManager;
+
+    Snowflake snowflake = new Snowflake();
 
     @Test
     void findAllTest() {
@@ -44,4 +58,74 @@ class ArticleRepositoryTest {
             log.info("article2Id = {}", article.getArticleId());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void scanRateTest() {
+        // 본문 압축 백필 전후로 실행하여 게시판 전체 스캔 속도 비교
+        long start = System.currentTimeMillis();
+        long scannedCount = 0;
+        List<Article> articles = articleRepository.findAllInfiniteScroll(1L, 1000L);
+        while (!articles.isEmpty()) {
+            scannedCount += articles.size();
+            articles = articleRepository.findAllInfiniteScroll(1L, 1000L, articles.getLast().getArticleId());
+        }
+        long elapsedMillis = Math.max(System.currentTimeMillis() - start, 1);
+
+        log.info("scanned = {}, elapsed = {}ms, rows/s = {}", scannedCount, elapsedMillis, scannedCount * 1000 / elapsedMillis);
+    }
+
+    @Test
+    @Transactional
+    void softDeleteExcludedTest() {
+        // 테스트 트랜잭션은 롤백되므로 직접 만든 게시글만 사용
+        Long boardId = snowflake.nextId();
+        List<Long> articleIds = createArticles(boardId, 3);
+
+        assertEquals(1, articleRepository.softDeleteAllByArticleIdIn(List.of(articleIds.get(1)), LocalDateTime.now()));
+
+        List<Long> expected = List.of(articleIds.get(2), articleIds.get(0));
+        assertEquals(Set.copyOf(expected), articleRepository.findAll(boardId, 10L, 0L).stream()
+                .map(Article::getArticleId).collect(Collectors.toSet()));
+        assertEquals(2L, articleRepository.count(boardId, 10L));
+        assertEquals(expected, articleRepository.findAllInfiniteScroll(boardId, 10L).stream().map(Article::getArticleId).toList());
+        assertEquals(List.of(articleIds.get(0)), articleRepository.findAllInfiniteScroll(boardId, 10L, articleIds.get(2)).stream()
+                .map(Article::getArticleId).toList());
+    }
+
+    @Test
+    @Transactional
+    void purgeDeletedTest() {
+        // 기존 논리 삭제 행을 먼저 비워 직접 만든 게시글만 대상이 되도록 함 (테스트 트랜잭션은 롤백)
+        articleRepository.purgeDeleted(Long.MAX_VALUE);
+        Long boardId = snowflake.nextId();
+        List<Long> articleIds = createArticles(boardId, 5);
+        articleRepository.softDeleteAllByArticleIdIn(articleIds, LocalDateTime.now());
+
+        // chunk-size 이하로, 오래된(작은) ID부터 물리 삭제되어야 한다
+        assertEquals(2, articleRepository.purgeDeleted(2L));
+        assertEquals(articleIds.subList(2, 5), remainingIds(articleIds));
+        assertEquals(2, articleRepository.purgeDeleted(2L));
+        assertEquals(articleIds.subList(4, 5), remainingIds(articleIds));
+        assertEquals(1, articleRepository.purgeDeleted(2L));
+        assertEquals(0, articleRepository.purgeDeleted(2L));
+        assertTrue(remainingIds(articleIds).isEmpty());
+    }
+
+    List<Long> createArticles(Long boardId, int count) {
+        List<Long> articleIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Article article = Article.create(snowflake.nextId(), "title" + i, "content" + i, boardId, 1L);
+            articleIds.add(articleRepository.save(article).getArticleId());
+        }
+        articleRepository.flush();
+        return articleIds;
+    }
+
+    List<Long> remainingIds(List<Long> articleIds) {
+        entityManager.clear();
+        return articleRepository.findAllById(articleIds).stream()
+                .map(Article::getArticleId)
+                .sorted()
+                .toList();
+    }
+}
@@ -0,0 +1,159 @@
+package smsoft.board.article.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import smsoft.board.article.entity.Article;
+import smsoft.board.article.entity.ArticleContentConverter;
+import smsoft.board.article.repository.ArticleRepository;
+import smsoft.board.article.service.request.ArticleBulkDeleteRequest;
+import smsoft.board.article.service.request.ArticleUpdateRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("게시글 보관 작업 및 보관된 게시글 처리 테스트")
+class ArticleArchiveServiceTest {
+    ArticleRepository articleRepository = mock(ArticleRepository.class);
+    ArticlePageCache articlePageCache = mock(ArticlePageCache.class);
+    ArticleSearchIndex articleSearchIndex = mock(ArticleSearchIndex.class);
+    ArticleJobLock articleJobLock = mock(ArticleJobLock.class);
+    TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    ArticleArchiveService archiveService = new ArticleArchiveService(
+            articleRepository, articlePageCache, articleSearchIndex, articleJobLock, transactionTemplate
+    );
+    ArticleService articleService = new ArticleService(
+            articleRepository,
+            new ArticleContentConverter(false, 1024),
+            articlePageCache,
+            articleSearchIndex,
+            archiveService,
+            new ObjectMapper().findAndRegisterModules(),
+            transactionTemplate
+    );
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(archiveService, "enabled", true);
+        ReflectionTestUtils.setField(archiveService, "retention", Duration.ofDays(365));
+        ReflectionTestUtils.setField(archiveService, "chunkSize", 2L);
+        ReflectionTestUtils.setField(archiveService, "pause", Duration.ZERO);
+        ReflectionTestUtils.setField(archiveService, "maxChunksPerRun", 10);
+        ReflectionTestUtils.setField(archiveService, "lease", Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("잠금을 획득하지 못한 인스턴스는 보관 작업을 수행하지 않아야 한다")
+    void skipWithoutLockTest() {
+        when(articleJobLock.tryLock(eq(ArticleArchiveService.JOB_NAME), any())).thenReturn(false);
+
+        archiveService.archive();
+
+        verifyNoInteractions(articleRepository);
+        verify(articleJobLock, never()).unlock(any());
+    }
+
+    @Test
+    @DisplayName("복사된 행 수가 대상 수와 다르면 운영 테이블에서 삭제하지 않아야 한다")
+    void copyCountMismatchTest() {
+        when(articleJobLock.tryLock(eq(ArticleArchiveService.JOB_NAME), any())).thenReturn(true);
+        when(articleRepository.findArchiveTargetIds(anyLong(), eq(2L))).thenReturn(List.of(1L, 2L));
+        when(articleRepository.copyToArchive(List.of(1L, 2L))).thenReturn(1);
+
+        archiveService.archive();
+
+        verify(articleRepository, never()).deleteAllByArticleIdIn(any());
+        verifyNoInteractions(articlePageCache, articleSearchIndex);
+        verify(articleJobLock).unlock(ArticleArchiveService.JOB_NAME);
+    }
+
+    @Test
+    @DisplayName("옮긴 게시글의 게시판 목록 캐시는 무효화되고 검색 색인에서 제거되어야 한다")
+    void archiveTest() {
+        when(articleJobLock.tryLock(eq(ArticleArchiveService.JOB_NAME), any())).thenReturn(true);
+        when(articleRepository.findArchiveTargetIds(anyLong(), eq(2L))).thenReturn(List.of(1L, 2L), List.of());
+        when(articleRepository.findAllBoardIdsByArticleIdIn(List.of(1L, 2L))).thenReturn(List.of(10L));
+        when(articleRepository.copyToArchive(List.of(1L, 2L))).thenReturn(2);
+        when(articleRepository.deleteAllByArticleIdIn(List.of(1L, 2L))).thenReturn(2);
+
+        archiveService.archive();
+
+        verify(articlePageCache).invalidate(10L);
+        verify(articleSearchIndex).remove(1L);
+        verify(articleSearchIndex).remove(2L);
+        verify(articleJobLock).unlock(ArticleArchiveService.JOB_NAME);
+    }
+
+    @Test
+    @DisplayName("운영 테이블에 없는 게시글은 보관 경계와 관계없이 보관 테이블에서 조회되어야 한다")
+    void readFallThroughTest() {
+        // 보관 경계보다 최신인 ID (보관 기준 기간을 늘린 경우)
+        Long articleId = Long.MAX_VALUE;
+        when(articleRepository.findById(articleId)).thenReturn(Optional.empty());
+        when(articleRepository.findArchivedById(articleId))
+                .thenReturn(Optional.of(Article.create(articleId, "title", "content", 1L, 1L)));
+
+        assertEquals(articleId, articleService.read(articleId).getArticleId());
+    }
+
+    @Test
+    @DisplayName("보관된 게시글도 수정/삭제/일괄 삭제할 수 있어야 한다")
+    void writeFallThroughTest() {
+        Long articleId = 1L;
+        when(articleRepository.findById(articleId)).thenReturn(Optional.empty());
+        when(articleRepository.update(eq(articleId), any(), any(), any(), eq(3L))).thenReturn(0);
+        when(articleRepository.updateArchived(eq(articleId), any(), any(), any(), eq(3L))).thenReturn(1);
+        when(articleRepository.findArchivedById(articleId))
+                .thenReturn(Optional.of(Article.create(articleId, "title", "content", 5L, 1L)));
+
+        assertEquals(5L, articleService.update(articleId, updateRequest(3L)).getBoardId());
+        articleService.delete(articleId);
+        verify(articleRepository).deleteArchivedAllByArticleIdIn(List.of(articleId));
+
+        when(articleRepository.findAllIdsByWriterId(7L)).thenReturn(List.of(2L));
+        when(articleRepository.findAllArchivedIdsByWriterId(7L)).thenReturn(List.of(articleId));
+        when(articleRepository.softDeleteAllByArticleIdIn(eq(List.of(2L, articleId)), any())).thenReturn(1);
+        when(articleRepository.deleteArchivedAllByArticleIdIn(List.of(2L, articleId))).thenReturn(1);
+
+        assertEquals(2L, articleService.bulkDelete(bulkDeleteRequest(7L)).getDeletedCount());
+    }
+
+    @Test
+    @DisplayName("export는 운영 테이블 이후 보관 테이블까지 이어서 내보내야 한다")
+    void exportFallThroughTest() throws Exception {
+        when(articleRepository.findAllInfiniteScroll(1L, 1000L))
+                .thenReturn(List.of(Article.create(30L, "t", "c", 1L, 1L), Article.create(20L, "t", "c", 1L, 1L)));
+        when(articleRepository.findAllArchivedInfiniteScroll(1L, 1000L, 20L))
+                .thenReturn(List.of(Article.create(10L, "t", "c", 1L, 1L)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        articleService.export(1L, outputStream);
+
+        assertEquals(3, outputStream.toString().lines().count());
+    }
+
+    ArticleUpdateRequest updateRequest(Long version) {
+        ArticleUpdateRequest request = new ArticleUpdateRequest();
+        ReflectionTestUtils.setField(request, "title", "title");
+        ReflectionTestUtils.setField(request, "content", "content");
+        ReflectionTestUtils.setField(request, "version", version);
+        return request;
+    }
+
+    ArticleBulkDeleteRequest bulkDeleteRequest(Long writerId) {
+        ArticleBulkDeleteRequest request = new ArticleBulkDeleteRequest();
+        ReflectionTestUtils.setField(request, "writerId", writerId);
+        return request;
+    }
+}
@@ -0,0 +1,122 @@
+package smsoft.board.article.service;
+
+import org.junit.jupiter.api.Test;
+import smsoft.board.article.config.PrimaryPinContext;
+import smsoft.board.article.service.response.ArticlePageResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArticlePageCacheTest {
+    AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    void cacheHitTest() {
+        ArticlePageCache cache = new ArticlePageCache(100, Duration.ofMinutes(1), Duration.ZERO);
+
+        ArticlePageResponse first = cache.get(1L, 1L, 30L, this::load);
+        ArticlePageResponse second = cache.get(1L, 1L, 30L, this::load);
+
+        assertSame(first, second);
+        assertEquals(1, loadCount.get());
+        assertEquals(0.5, cache.hitRatioByPageDepth().get("1"));
+    }
+
+    @Test
+    void invalidateTest() {
+        ArticlePageCache cache = new ArticlePageCache(100, Duration.ofMinutes(1), Duration.ZERO);
+        cache.get(1L, 1L, 30L, this::load);
+        cache.get(2L, 1L, 30L, this::load);
+
+        cache.invalidate(1L);
+        cache.get(1L, 1L, 30L, this::load);
+        cache.get(2L, 1L, 30L, this::load);
+
+        // 무효화된 게시판만 다시 조회되어야 한다
+        assertEquals(3, loadCount.get());
+    }
+
+    @Test
+    void lruEvictionTest() {
+        ArticlePageCache cache = new ArticlePageCache(2, Duration.ofMinutes(1), Duration.ZERO);
+        cache.get(1L, 1L, 30L, this::load);
+        cache.get(1L, 2L, 30L, this::load);
+        cache.get(1L, 1L, 30L, this::load);
+        cache.get(1L, 3L, 30L, this::load);
+
+        assertEquals(2, cache.size());
+        // 가장 오래 사용되지 않은 2페이지가 제거되어야 한다
+        cache.get(1L, 1L, 30L, this::load);
+        assertEquals(3, loadCount.get());
+        cache.get(1L, 2L, 30L, this::load);
+        assertEquals(4, loadCount.get());
+    }
+
+    @Test
+    void expireTest() {
+        ArticlePageCache cache = new ArticlePageCache(100, Duration.ZERO, Duration.ZERO);
+        cache.get(1L, 500L, 30L, this::load);
+        cache.get(1L, 500L, 30L, this::load);
+
+        assertEquals(2, loadCount.get());
+        assertEquals(0.0, cache.hitRatioByPageDepth().get("101-1000"));
+    }
+
+    @Test
+    void pinnedBypassTest() {
+        ArticlePageCache cache = new ArticlePageCache(100, Duration.ofMinutes(1), Duration.ZERO);
+        cache.get(1L, 1L, 30L, this::load);
+
+        PrimaryPinContext.pin();
+        try {
+            cache.get(1L, 1L, 30L, this::load);
+        } finally {
+            PrimaryPinContext.clear();
+        }
+
+        // 프라이머리로 고정된 요청은 캐시된 엔트리가 있어도 다시 조회해야 한다
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void replicaLoadAfterInvalidateTest() {
+        ArticlePageCache cache = new ArticlePageCache(100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        List<Boolean> pinnedOnLoad = new ArrayList<>();
+        Supplier<ArticlePageResponse> loader = () -> {
+            pinnedOnLoad.add(PrimaryPinContext.isPinned());
+            return load();
+        };
+
+        cache.get(1L, 1L, 30L, loader);
+        cache.invalidate(1L);
+        cache.get(1L, 1L, 30L, loader);
+        cache.get(1L, 1L, 30L, loader);
+
+        // 무효화 직후 새 버전을 채우는 조회도 레플리카에서 수행되고, 복제 지연 상한 이내의 다음 조회는 캐시 적중
+        assertEquals(List.of(false, false), pinnedOnLoad);
+    }
+
+    @Test
+    void expireAfterReplicaLagTest() throws InterruptedException {
+        ArticlePageCache cache = new ArticlePageCache(100, Duration.ofMinutes(1), Duration.ofMillis(50));
+        cache.invalidate(1L);
+        cache.get(1L, 1L, 30L, this::load);
+
+        Thread.sleep(100);
+        cache.get(1L, 1L, 30L, this::load);
+        cache.get(1L, 1L, 30L, this::load);
+
+        // 복제 지연 구간에 채운 엔트리는 TTL이 남아 있어도 지연 상한이 지나면 다시 조회되고, 이후에는 TTL 동안 유지
+        assertEquals(2, loadCount.get());
+    }
+
+    ArticlePageResponse load() {
+        loadCount.incrementAndGet();
+        return ArticlePageResponse.of(List.of(), 0L);
+    }
+}
@@ -0,0 +1,79 @@
+package smsoft.board.article.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import smsoft.board.article.repository.ArticleRepository;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("논리 삭제 게시글 물리 삭제 작업 테스트")
+class ArticlePurgeServiceTest {
+    ArticleRepository articleRepository = mock(ArticleRepository.class);
+    ArticleJobLock articleJobLock = mock(ArticleJobLock.class);
+    ArticlePurgeService purgeService = new ArticlePurgeService(
+            articleRepository, articleJobLock, new TransactionTemplate(mock(PlatformTransactionManager.class))
+    );
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(purgeService, "enabled", true);
+        ReflectionTestUtils.setField(purgeService, "chunkSize", 200L);
+        ReflectionTestUtils.setField(purgeService, "pause", Duration.ZERO);
+        ReflectionTestUtils.setField(purgeService, "maxChunksPerRun", 10);
+        ReflectionTestUtils.setField(purgeService, "lease", Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("잠금을 획득하지 못한 인스턴스는 삭제 작업을 수행하지 않아야 한다")
+    void skipWithoutLockTest() {
+        when(articleJobLock.tryLock(eq(ArticlePurgeService.JOB_NAME), any())).thenReturn(false);
+
+        purgeService.purge();
+
+        verifyNoInteractions(articleRepository);
+        verify(articleJobLock, never()).unlock(any());
+    }
+
+    @Test
+    @DisplayName("chunk-size 단위로 삭제하고 마지막 청크가 chunk-size보다 작으면 멈춰야 한다")
+    void purgeInChunksTest() {
+        when(articleJobLock.tryLock(eq(ArticlePurgeService.JOB_NAME), any())).thenReturn(true);
+        when(articleRepository.purgeDeleted(200L)).thenReturn(200, 200, 50);
+
+        purgeService.purge();
+
+        verify(articleRepository, times(3)).purgeDeleted(200L);
+        verifyNoMoreInteractions(articleRepository);
+        verify(articleJobLock).unlock(ArticlePurgeService.JOB_NAME);
+    }
+
+    @Test
+    @DisplayName("한 번 실행에 max-chunks-per-run 청크까지만 삭제해야 한다")
+    void maxChunksPerRunTest() {
+        when(articleJobLock.tryLock(eq(ArticlePurgeService.JOB_NAME), any())).thenReturn(true);
+        when(articleRepository.purgeDeleted(200L)).thenReturn(200);
+
+        purgeService.purge();
+
+        verify(articleRepository, times(10)).purgeDeleted(200L);
+    }
+
+    @Test
+    @DisplayName("청크 사이에 잠금 연장에 실패하면 멈춰야 한다")
+    void stopWhenLeaseLostTest() {
+        when(articleJobLock.tryLock(eq(ArticlePurgeService.JOB_NAME), any())).thenReturn(true, true, false);
+        when(articleRepository.purgeDeleted(200L)).thenReturn(200);
+
+        purgeService.purge();
+
+        verify(articleRepository, times(2)).purgeDeleted(200L);
+        verify(articleJobLock).unlock(ArticlePurgeService.JOB_NAME);
+    }
+}
@@ -0,0 +1,65 @@
+package smsoft.board.article.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import smsoft.board.article.entity.Article;
+import smsoft.board.article.repository.ArticleRepository;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("검색 색인 초기화 및 따라잡기 테스트")
+class ArticleSearchIndexInitializerTest {
+    ArticleRepository articleRepository = mock(ArticleRepository.class);
+    ArticleSearchIndex index = new ArticleSearchIndex();
+    ArticleSearchIndexInitializer initializer = new ArticleSearchIndexInitializer(articleRepository, index);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(initializer, "catchUpOverlap", Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 생성/수정/삭제된 게시글도 따라잡기로 검색에 반영되어야 한다")
+    void catchUpTest() {
+        Article edited = Article.create(1L, "before", "content", 1L, 1L);
+        ReflectionTestUtils.setField(edited, "version", 0L);
+        Article deleted = Article.create(2L, "deleted", "content", 1L, 1L);
+        ReflectionTestUtils.setField(deleted, "version", 0L);
+        when(articleRepository.findAllAfter(0L, 1000L)).thenReturn(List.of(edited, deleted));
+        initializer.bootstrap();
+
+        // 다른 인스턴스에서 새 게시글 생성, 게시글 1 수정, 게시글 2 논리 삭제
+        Article created = Article.create(3L, "created", "content", 1L, 1L);
+        ReflectionTestUtils.setField(created, "version", 0L);
+        Article editedAfter = Article.create(1L, "after", "content", 1L, 1L);
+        ReflectionTestUtils.setField(editedAfter, "version", 1L);
+        Article deletedAfter = Article.create(2L, "deleted", "content", 1L, 1L);
+        ReflectionTestUtils.setField(deletedAfter, "version", 1L);
+        deletedAfter.delete();
+        when(articleRepository.findAllAfter(2L, 1000L)).thenReturn(List.of(created));
+        when(articleRepository.findAllModifiedSince(any(), eq(0L), eq(1000L))).thenReturn(List.of(editedAfter, deletedAfter));
+
+        initializer.catchUp();
+
+        assertArrayEquals(new long[]{3L}, index.search(1L, "created", 10, null));
+        assertArrayEquals(new long[]{1L}, index.search(1L, "after", 10, null));
+        assertArrayEquals(new long[0], index.search(1L, "before", 10, null));
+        assertArrayEquals(new long[0], index.search(1L, "deleted", 10, null));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("초기 색인이 끝나기 전에는 따라잡기를 실행하지 않아야 한다")
+    void catchUpBeforeBootstrapTest() {
+        initializer.catchUp();
+
+        verifyNoInteractions(articleRepository);
+    }
+}
@@ -0,0 +1,91 @@
+package smsoft.board.article.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("게시글 인메모리 역색인 테스트")
+class ArticleSearchIndexTest {
+    ArticleSearchIndex index = new ArticleSearchIndex();
+
+    @Test
+    @DisplayName("모든 검색어를 포함하는 게시글을 최신순으로 반환해야 한다")
+    void searchTest() {
+        index.index(1L, 1L, "Spring 게시판", "MSA 구성", 0L);
+        index.index(2L, 1L, "spring boot", "게시판 만들기", 0L);
+        index.index(3L, 1L, "다른 글", "spring", 0L);
+        index.index(4L, 2L, "Spring 게시판", "다른 게시판", 0L);
+
+        assertArrayEquals(new long[]{3L, 2L, 1L}, index.search(1L, "spring", 10, null));
+        assertArrayEquals(new long[]{2L, 1L}, index.search(1L, "SPRING 게시판", 10, null));
+        assertArrayEquals(new long[]{4L}, index.search(2L, "spring", 10, null));
+        assertArrayEquals(new long[0], index.search(1L, "없는단어", 10, null));
+    }
+
+    @Test
+    @DisplayName("limit과 lastArticleId 커서로 다음 결과를 이어서 조회할 수 있어야 한다")
+    void searchWithCursorTest() {
+        for (long articleId = 1; articleId <= 10; articleId++) {
+            index.index(articleId, 1L, "title", "content" + articleId, 0L);
+        }
+
+        assertArrayEquals(new long[]{10L, 9L, 8L}, index.search(1L, "title", 3, null));
+        assertArrayEquals(new long[]{7L, 6L, 5L}, index.search(1L, "title", 3, 8L));
+        assertArrayEquals(new long[]{2L, 1L}, index.search(1L, "title", 3, 3L));
+    }
+
+    @Test
+    @DisplayName("수정/삭제된 게시글은 이전 단어로 검색되지 않아야 한다")
+    void updateAndRemoveTest() {
+        index.index(1L, 1L, "before", "content", 0L);
+        index.index(2L, 1L, "before", "content", 0L);
+
+        index.index(1L, 1L, "after", "content", 1L);
+        assertArrayEquals(new long[]{2L}, index.search(1L, "before", 10, null));
+        assertArrayEquals(new long[]{1L}, index.search(1L, "after", 10, null));
+
+        index.remove(2L);
+        assertArrayEquals(new long[0], index.search(1L, "before", 10, null));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("초기 색인이 읽은 이전 스냅샷은 실시간으로 색인된 최신 내용을 덮어쓰지 않아야 한다")
+    void bootstrapUpdateRaceTest() {
+        index.startBootstrap();
+        // 초기 색인이 버전 0을 읽은 뒤, 반영되기 전에 수정(버전 1)이 먼저 색인되고 게시글 2는 삭제됨
+        index.index(1L, 1L, "after", "content", 1L);
+        index.remove(2L);
+        index.index(1L, 1L, "before", "content", 0L);
+        index.index(2L, 1L, "before", "content", 0L);
+        index.completeBootstrap();
+
+        assertArrayEquals(new long[0], index.search(1L, "before", 10, null));
+        assertArrayEquals(new long[]{1L}, index.search(1L, "after", 10, null));
+
+        // 초기 색인 이후에도 이전 버전의 늦은 반영은 무시되어야 한다
+        index.index(1L, 1L, "stale", "content", 0L);
+        assertArrayEquals(new long[0], index.search(1L, "stale", 10, null));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("순서와 무관하게 추가된 ID도 정렬 상태를 유지해야 한다")
+    void postingListOrderTest() {
+        PostingList postingList = new PostingList();
+        long[] ids = {5L, 1L, 9L, 3L, 7L, 3L};
+        for (long id : ids) {
+            postingList.add(id);
+        }
+
+        assertEquals(5, postingList.size());
+        for (int i = 1; i < postingList.size(); i++) {
+            assertTrue(postingList.get(i - 1) < postingList.get(i));
+        }
+
+        assertTrue(postingList.remove(3L));
+        assertFalse(postingList.remove(3L));
+        assertEquals(4, postingList.size());
+    }
+}
@@ -0,0 +1,93 @@
+package smsoft.board.article.service.response;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import smsoft.board.article.entity.Article;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArticleResponseEncodingTest {
+    static final int PAGE_SIZE = 50;
+    static final int WARMUP_ITERATIONS = 5_000;
+    static final int ITERATIONS = 20_000;
+    static final TypeReference<List<ArticleResponse>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+    ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor()
+            .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    @DisplayName("CBOR 인코딩은 JSON과 동일한 값으로 복원되어야 한다")
+    void cborRoundTripTest() throws Exception {
+        List<ArticleResponse> page = createPage();
+
+        List<ArticleResponse> decoded = cborMapper.readValue(cborMapper.writeValueAsBytes(page), LIST_TYPE);
+
+        assertEquals(page.size(), decoded.size());
+        for (int i = 0; i < page.size(); i++) {
+            assertEquals(page.get(i).toString(), decoded.get(i).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("50개 페이지 기준 JSON / CBOR 페이로드 크기 및 인코딩/디코딩 속도 비교")
+    void encodingBenchmarkTest() throws Exception {
+        List<ArticleResponse> page = createPage();
+
+        byte[] json = jsonMapper.writeValueAsBytes(page);
+        byte[] cbor = cborMapper.writeValueAsBytes(page);
+        System.out.printf("[payload] json = %d bytes, cbor = %d bytes (%.1f%%)%n",
+                json.length, cbor.length, cbor.length * 100.0 / json.length);
+
+        benchmark("json", jsonMapper, page, json);
+        benchmark("cbor", cborMapper, page, cbor);
+
+        assertTrue(cbor.length < json.length, "CBOR 페이로드가 JSON보다 작아야 합니다.");
+    }
+
+    void benchmark(String name, ObjectMapper mapper, List<ArticleResponse> page, byte[] encoded) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            mapper.writeValueAsBytes(page);
+            mapper.readValue(encoded, LIST_TYPE);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            mapper.writeValueAsBytes(page);
+        }
+        long encodeNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            mapper.readValue(encoded, LIST_TYPE);
+        }
+        long decodeNanos = System.nanoTime() - start;
+
+        System.out.printf("[%s] encode = %.2f us/page, decode = %.2f us/page%n",
+                name, encodeNanos / 1000.0 / ITERATIONS, decodeNanos / 1000.0 / ITERATIONS);
+    }
+
+    List<ArticleResponse> createPage() {
+        List<ArticleResponse> page = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Article article = Article.create(
+                    256395380272410624L + i,
+                    "게시글 제목입니다 " + i,
+                    "게시글 내용입니다. ".repeat(20) + i,
+                    1L,
+                    1L
+            );
+            page.add(ArticleResponse.from(article));
+        }
+        return page;
+    }
+}